@@ -0,0 +1,78 @@
+package com.example.tasktrackingsystem.config;
+
+import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.service.JwtService;
+import com.example.tasktrackingsystem.service.VerifiedTokenCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter}, from reading the token to populating the security context.
+ * <p>
+ * {@code bearerHeader} and {@code cookie} cover the two places the token is read from; {@code anonymous} is a
+ * request without a token. {@code cacheEnabled} toggles the {@link VerifiedTokenCache}, so both the full
+ * signature check and the cache hit path are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest anonymousRequest;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService();
+        filter = new JwtAuthenticationFilter(jwtService, new VerifiedTokenCache(cacheEnabled, 4096));
+        String token = jwtService.generateToken(new PersonDto(1L, "Benchmark User", "USER", "benchmark"));
+
+        bearerRequest = new MockHttpServletRequest("GET", "/api/tasks/my-tasks");
+        bearerRequest.addHeader("Authorization", "Bearer " + token);
+
+        cookieRequest = new MockHttpServletRequest("GET", "/api/tasks/my-tasks");
+        cookieRequest.setCookies(new Cookie("theme", "dark"), new Cookie("token", token));
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/tasks/my-tasks");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse bearerHeader() throws ServletException, IOException {
+        return filter(bearerRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cookie() throws ServletException, IOException {
+        return filter(cookieRequest);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse anonymous() throws ServletException, IOException {
+        return filter(anonymousRequest);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NOOP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.tasktrackingsystem.controllerhandlier;
+
+import com.example.tasktrackingsystem.dto.CreateTaskDto;
+import com.example.tasktrackingsystem.exceptions.TaskNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning an exception into an error response through {@link GlobalExceptionHandler}.
+ * <p>
+ * {@code taskNotFound}, {@code validation} and {@code unexpected} reuse one exception each and measure only the
+ * handler; {@code throwTaskNotFound} also creates the exception per call, stack trace included, as a service does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private TaskNotFoundException taskNotFound;
+    private MethodArgumentNotValidException invalidTask;
+    private RuntimeException unexpected;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("POST", "/api/tasks/42");
+        taskNotFound = new TaskNotFoundException("Task not found with ID: 42");
+        unexpected = new RuntimeException("boom");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CreateTaskDto(), "createTaskDto");
+        bindingResult.addError(new FieldError("createTaskDto", "title", "Title is required"));
+        bindingResult.addError(new FieldError("createTaskDto", "title", "Title must be under 100 characters"));
+        bindingResult.addError(new FieldError("createTaskDto", "description", null));
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("createTask", CreateTaskDto.class), 0);
+        invalidTask = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ApiError> taskNotFound() {
+        return handler.handleTaskNotFound(taskNotFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ApiError> throwTaskNotFound() {
+        return handler.handleTaskNotFound(new TaskNotFoundException("Task not found with ID: 42"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ApiError> validation() {
+        return handler.handleValidation(invalidTask, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ApiError> unexpected() {
+        return handler.handleUnexpected(unexpected, request);
+    }
+
+    // Stands in for the controller method whose @Valid argument failed
+    @SuppressWarnings("unused")
+    private void createTask(CreateTaskDto createTaskDto) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.tasktrackingsystem.controllers;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.model.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing a {@code Page<TaskDto>} response body, as returned by the paged task endpoints.
+ * <p>
+ * Uses a plain Jackson {@link ObjectMapper}, like the rest of the codebase. Descriptions are
+ * {@code descriptionLength} characters long, since they dominate the payload of real pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskPageJsonBenchmark {
+
+    @Param({"20", "500"})
+    public int pageSize;
+
+    @Param({"0", "1000"})
+    public int descriptionLength;
+
+    private ObjectMapper mapper;
+    private Page<TaskDto> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = new ObjectMapper();
+
+        String description = "d".repeat(descriptionLength);
+        Status[] statuses = Status.values();
+        List<TaskDto> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TaskDto((long) i + 1, "Benchmark task " + i, descriptionLength == 0 ? null : description,
+                    statuses[i % statuses.length], 1L, "benchmark", 0L));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("id")), pageSize * 10L);
+
+        // Serializers are built lazily on first use; keep that out of the first warm-up iteration
+        mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writePage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+}
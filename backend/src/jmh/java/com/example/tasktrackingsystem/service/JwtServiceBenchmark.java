@@ -0,0 +1,77 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.AuthenticatedPerson;
+import com.example.tasktrackingsystem.dto.PersonDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of turning a JWT into an authenticated principal.
+ * <p>
+ * {@code legacyDoubleVerification} reproduces the old filter path (build key and parser per call,
+ * verify once for {@code isTokenValid} and again for {@code extractUserDetails});
+ * {@code singlePassVerification} is the current {@link JwtService#verify(String)} path.
+ * {@code generateToken} and {@code extractUserDetails} cover login and the remaining claim-reading callers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private PersonDto person;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        person = new PersonDto(1L, "Benchmark User", "USER", "benchmark");
+        token = jwtService.generateToken(person);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(person);
+    }
+
+    @Benchmark
+    public PersonDto extractUserDetails() {
+        return jwtService.extractUserDetails(token);
+    }
+
+    @Benchmark
+    public PersonDto legacyDoubleVerification() {
+        if (!legacyParse(token).getExpiration().after(new Date())) {
+            return null;
+        }
+
+        Claims claims = legacyParse(token);
+        PersonDto person = new PersonDto();
+        person.setPersonId(Long.valueOf(claims.getSubject()));
+        person.setUsername(claims.get("username", String.class));
+        person.setFullName(claims.get("fullName", String.class));
+        person.setRole(claims.get("role", String.class));
+        return person;
+    }
+
+    @Benchmark
+    public AuthenticatedPerson singlePassVerification() {
+        return jwtService.verify(token).orElseThrow();
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
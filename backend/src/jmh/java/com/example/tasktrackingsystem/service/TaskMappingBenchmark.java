@@ -0,0 +1,64 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Role;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a page of {@link Task} entities to {@link TaskDto}s through {@link TaskService#convertToDto(Task)}.
+ * <p>
+ * Reported per page, so the score and {@code gc.alloc.rate.norm} scale with {@code pageSize}; a jump in bytes per
+ * page at the same size is a regression in the mapping itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskMappingBenchmark {
+
+    @Param({"20", "500", "5000"})
+    public int pageSize;
+
+    private TaskService taskService;
+    private List<Task> page;
+
+    @Setup
+    public void setUp() {
+        // convertToDto touches none of the collaborators
+        taskService = new TaskService(null, null, null, null, null, null, null);
+
+        Person owner = new Person();
+        owner.setPersonId(1L);
+        owner.setFullName("Benchmark User");
+        owner.setRole(Role.USER);
+        owner.setUsername("benchmark");
+
+        Status[] statuses = Status.values();
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(Task.builder()
+                    .id((long) i + 1)
+                    .title("Benchmark task " + i)
+                    .description("Description of benchmark task " + i)
+                    .trackingStatus(statuses[i % statuses.length])
+                    .person(owner)
+                    .version(0L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<TaskDto> convertPage() {
+        List<TaskDto> dtos = new ArrayList<>(page.size());
+        for (Task task : page) {
+            dtos.add(taskService.convertToDto(task));
+        }
+        return dtos;
+    }
+}
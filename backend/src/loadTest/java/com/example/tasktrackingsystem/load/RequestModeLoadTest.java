@@ -0,0 +1,233 @@
+package com.example.tasktrackingsystem.load;
+
+import com.example.tasktrackingsystem.TaskTrackingSystemApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test comparing request handling on Tomcat's platform-thread pool with virtual threads.
+ * <p>
+ * For each mode the application is started in-process on a random port, one user with a few tasks is created,
+ * and {@code load.clients} concurrent clients then fetch {@code /api/tasks/my-tasks/cursor} for
+ * {@code load.seconds} after a warm-up. Every JDBC statement is delayed by {@code load.db-latency-ms} to stand in
+ * for a slow database, so requests spend their time blocked, which is where the two modes differ.
+ * <p>
+ * Runs against an in-memory H2 database unless {@code load.datasource.url} (with {@code load.datasource.username}
+ * and {@code load.datasource.password}) is given. The database gate follows {@code load.pool-size}, as in production.
+ * Run with {@code ./gradlew loadTest}, passing settings as {@code -Dload.clients=1000} and so on.
+ */
+public final class RequestModeLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 400);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 20);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 5);
+    private static final int TOMCAT_THREADS = Integer.getInteger("load.tomcat-threads", 200);
+    private static final int DB_LATENCY_MS = Integer.getInteger("load.db-latency-ms", 20);
+    private static final int POOL_SIZE = Integer.getInteger("load.pool-size", 10);
+
+    private RequestModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            results.add(run(virtual));
+        }
+
+        System.out.printf("%nclients=%d, db latency=%dms, pool size=%d, tomcat threads=%d, %ds per mode%n",
+                CLIENTS, DB_LATENCY_MS, POOL_SIZE, TOMCAT_THREADS, SECONDS);
+        System.out.printf("%-10s %12s %10s %10s %10s%n", "mode", "requests/s", "p50 ms", "p99 ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %12.1f %10.1f %10.1f %10d%n", result.mode(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.errors());
+        }
+    }
+
+    private static Result run(boolean virtual) throws Exception {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtual,
+                "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "tasks.db.gate.permits=" + Math.max(POOL_SIZE - 2, 1),
+                "spring.jmx.enabled=false",
+                "logging.level.root=WARN",
+                "spring.datasource.url=" + System.getProperty("load.datasource.url",
+                        "jdbc:h2:mem:load-" + virtual + ";MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                "spring.datasource.username=" + System.getProperty("load.datasource.username", "sa"),
+                "spring.datasource.password=" + System.getProperty("load.datasource.password", "")
+        ));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskTrackingSystemApplication.class, SlowDatabase.class)
+                .properties(properties.toArray(String[]::new))
+                .run()) {
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            String cookie = signUp(http, base);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/tasks/my-tasks/cursor"))
+                    .header("Cookie", cookie)
+                    .GET()
+                    .build();
+
+            drive(http, request, TimeUnit.SECONDS.toNanos(WARMUP_SECONDS));
+            Samples samples = drive(http, request, TimeUnit.SECONDS.toNanos(SECONDS));
+            return samples.summarize(virtual ? "virtual" : "platform", SECONDS);
+        }
+    }
+
+    // Registers a fresh user with a handful of tasks and returns its session cookie
+    private static String signUp(HttpClient http, String base) throws Exception {
+        String username = "load" + UUID.randomUUID().toString().substring(0, 8);
+        HttpResponse<String> registered = http.send(HttpRequest.newBuilder(URI.create(base + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"fullName\":\"Load Test User\",\"username\":\"" + username
+                        + "\",\"password\":\"load-test-password\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (registered.statusCode() != 200) {
+            throw new IllegalStateException("Registration failed: " + registered.statusCode() + " " + registered.body());
+        }
+        String cookie = registered.headers().firstValue("Set-Cookie").orElseThrow().split(";", 2)[0];
+
+        for (int i = 0; i < 20; i++) {
+            http.send(HttpRequest.newBuilder(URI.create(base + "/api/tasks"))
+                    .header("Content-Type", "application/json")
+                    .header("Cookie", cookie)
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load task " + i + "\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+        }
+        return cookie;
+    }
+
+    private static Samples drive(HttpClient http, HttpRequest request, long durationNanos) throws Exception {
+        long deadline = System.nanoTime() + durationNanos;
+        List<Future<Samples>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    Samples samples = new Samples();
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        int status;
+                        try {
+                            status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        samples.add(System.nanoTime() - startedAt, status == 200);
+                    }
+                    return samples;
+                }));
+            }
+        }
+
+        Samples all = new Samples();
+        for (Future<Samples> client : clients) {
+            all.addAll(client.get());
+        }
+        return all;
+    }
+
+    /**
+     * Delays every statement while its connection is held, standing in for a slow database.
+     */
+    public static class SlowDatabase {
+
+        @Bean
+        public static BeanPostProcessor slowDatabasePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (DB_LATENCY_MS > 0 && bean instanceof DataSource dataSource) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return slow(super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection slow(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            Thread.sleep(DB_LATENCY_MS);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        Result summarize(String mode, int seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Result(mode, (double) count / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99), errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+        }
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, int errors) {
+    }
+}
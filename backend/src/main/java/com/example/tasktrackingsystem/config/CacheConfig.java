@@ -0,0 +1,48 @@
+package com.example.tasktrackingsystem.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The type Cache config.
+ * <p>
+ * Every cache is bounded in size and time; entries are also evicted explicitly by the services that
+ * change the underlying rows.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * {@link com.example.tasktrackingsystem.repository.PersonRow} by person id; rows are read-only projections.
+     */
+    public static final String PERSONS = "persons";
+
+    /**
+     * Cache manager caffeine cache manager.
+     *
+     * @param personsMaxSize    the maximum cached persons
+     * @param personsTtlSeconds how long a cached person may be served
+     * @return the caffeine cache manager
+     */
+    @Bean
+    public CaffeineCacheManager cacheManager(
+            @Value("${cache.persons.max-size:10000}") long personsMaxSize,
+            @Value("${cache.persons.ttl-seconds:300}") long personsTtlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(PERSONS, Caffeine.newBuilder()
+                .maximumSize(personsMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(personsTtlSeconds))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.tasktrackingsystem.config;
+
+import com.example.tasktrackingsystem.exceptions.DatabaseBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how many JDBC connections the application holds at once.
+ * <p>
+ * With request handling on virtual threads, the number of requests in progress is no longer capped by the servlet
+ * thread pool, so nothing stops thousands of them from queueing on the connection pool at once. Each connection
+ * taken from a {@link #wrap(DataSource) gated} data source holds one permit until it is closed. Callers wait in
+ * arrival order for at most {@code maxWait}, and anything beyond that fails fast with {@link DatabaseBusyException}
+ * instead of piling up behind the pool's own, much longer, connection timeout.
+ * <p>
+ * A caller that already holds a permit is not gated again. Hibernate allocates table-generated id blocks on a
+ * second, isolated connection while the transaction's own connection is still open; if that connection needed a
+ * permit too, a full gate of inserting transactions would each wait for a permit none of them can give back.
+ * Such nested connections come straight from the pool, which must therefore be larger than the gate.
+ */
+public class DataSourceGate implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final long maxWaitNanos;
+    private final long retryAfterSeconds;
+    private final LongAdder rejected = new LongAdder();
+    // Permits held by connections the current thread opened through the gate
+    private final ThreadLocal<AtomicInteger> heldByThread = ThreadLocal.withInitial(AtomicInteger::new);
+
+    private volatile Timer waitTimer;
+
+    /**
+     * Instantiates a new Data source gate.
+     *
+     * @param limit             maximum connections held at once
+     * @param maxWait           how long a caller may wait for a permit
+     * @param retryAfterSeconds hint returned to rejected callers
+     */
+    public DataSourceGate(int limit, Duration maxWait, long retryAfterSeconds) {
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Wraps a data source so every connection it hands out holds a permit of this gate.
+     *
+     * @param dataSource the data source
+     * @return the gated data source
+     */
+    public DataSource wrap(DataSource dataSource) {
+        return new GatedDataSource(dataSource);
+    }
+
+    /**
+     * Active int.
+     *
+     * @return the number of connections currently held through the gate
+     */
+    public int active() {
+        return limit - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        waitTimer = Timer.builder("db.gate.wait")
+                .description("Time a caller waited for a database permit")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("db.gate.active", this, DataSourceGate::active)
+                .description("Connections currently held through the gate")
+                .register(registry);
+        Gauge.builder("db.gate.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers waiting for a database permit")
+                .register(registry);
+        FunctionCounter.builder("db.gate.rejected", rejected, LongAdder::sum)
+                .description("Callers that gave up waiting for a database permit")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database connection.", retryAfterSeconds);
+        } finally {
+            Timer timer = waitTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new DatabaseBusyException("The server is busy. Please try again shortly.", retryAfterSeconds);
+        }
+    }
+
+    // Hands the permit back exactly once, when the connection is closed
+    private Connection release(Connection connection, AtomicInteger held) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                held.decrementAndGet();
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private class GatedDataSource extends DelegatingDataSource {
+
+        GatedDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public @NonNull Connection getConnection() throws SQLException {
+            return gated(() -> obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public @NonNull Connection getConnection(String username, String password) throws SQLException {
+            return gated(() -> obtainTargetDataSource().getConnection(username, password));
+        }
+
+        private Connection gated(ConnectionSource source) throws SQLException {
+            AtomicInteger held = heldByThread.get();
+            if (held.get() > 0) {
+                // Nested inside a connection that already holds a permit, e.g. Hibernate's id block allocation
+                return source.get();
+            }
+
+            acquire();
+            try {
+                Connection connection = source.get();
+                held.incrementAndGet();
+                return release(connection, held);
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.tasktrackingsystem.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts the application's {@link DataSource} behind a {@link DataSourceGate}.
+ */
+@Configuration
+public class DataSourceGateConfig {
+
+    /**
+     * Data source gate.
+     *
+     * @param permits           the maximum connections held at once, below the pool size; {@code 0} turns the gate off
+     * @param maxWait           how long a caller may wait for a permit
+     * @param retryAfterSeconds the Retry-After hint sent with 503 responses
+     * @return the data source gate
+     */
+    @Bean
+    public DataSourceGate dataSourceGate(
+            @Value("${tasks.db.gate.permits:8}") int permits,
+            @Value("${tasks.db.gate.max-wait:PT2S}") Duration maxWait,
+            @Value("${tasks.db.gate.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        return new DataSourceGate(Math.max(permits, 0), maxWait, retryAfterSeconds);
+    }
+
+    /**
+     * Wraps every data source bean in the gate once it is fully initialized.
+     * Static, so the post-processor is registered before the data source is created.
+     *
+     * @param gate    the data source gate
+     * @param permits the configured permits; {@code 0} leaves data sources untouched
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceGatePostProcessor(
+            ObjectProvider<DataSourceGate> gate,
+            @Value("${tasks.db.gate.permits:8}") int permits
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (permits > 0 && bean instanceof DataSource dataSource) {
+                    return gate.getObject().wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
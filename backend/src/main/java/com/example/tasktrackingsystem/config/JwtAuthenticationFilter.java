@@ -1,21 +1,23 @@
 package com.example.tasktrackingsystem.config;
 
-import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.dto.AuthenticatedPerson;
 import com.example.tasktrackingsystem.service.JwtService;
+import com.example.tasktrackingsystem.service.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The type Jwt authentication filter.
@@ -24,14 +26,17 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Instantiates a new Jwt authentication filter.
      *
-     * @param jwtService the jwt service
+     * @param jwtService         the jwt service
+     * @param verifiedTokenCache the verified token cache
      */
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    public JwtAuthenticationFilter(JwtService jwtService, VerifiedTokenCache verifiedTokenCache) {
         this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -59,19 +64,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            if (jwtService.isTokenValid(token)) {
-                PersonDto personDto = jwtService.extractUserDetails(token);
-
-                List<SimpleGrantedAuthority> simpleGrantedAuthority = new ArrayList<>();
-                simpleGrantedAuthority.add(new SimpleGrantedAuthority(personDto.getRole()));
-
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        personDto,
-                        null,
-                        simpleGrantedAuthority
-                );
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            Optional<VerifiedTokenCache.Entry> cached = verifiedTokenCache.get(token);
+            if (cached.isPresent()) {
+                authenticate(cached.get().person(), cached.get().authorities());
+            } else {
+                Optional<AuthenticatedPerson> principal = jwtService.verify(token);
+                if (principal.isPresent()) {
+                    List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(principal.get().role()));
+                    verifiedTokenCache.put(token, principal.get(), authorities);
+                    authenticate(principal.get(), authorities);
+                }
             }
             filterChain.doFilter(request, response);
 
@@ -80,4 +82,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             response.getWriter().write("Token Error: " + e.getMessage());
         }
     }
+
+    private void authenticate(AuthenticatedPerson person, List<GrantedAuthority> authorities) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                person.toPersonDto(),
+                null,
+                authorities
+        );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.example.tasktrackingsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Refuses to start the application when an index the repositories depend on is missing.
+ * <p>
+ * Indexes are matched by their column lists, not their names, so an equivalent index created by hand also counts.
+ * The expected set mirrors the Flyway migrations in {@code db/migration}.
+ */
+@Component
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    /**
+     * Table name to the column lists that must each be the exact column list of some index on it.
+     */
+    static final Map<String, List<List<String>>> EXPECTED_INDEXES = Map.of(
+            "persons", List.of(
+                    List.of("username"),
+                    List.of("full_name", "person_id")
+            ),
+            "tasks", List.of(
+                    List.of("person_id", "tracking_status", "id"),
+                    List.of("person_id", "title", "id"),
+                    List.of("tracking_status", "id"),
+                    List.of("title", "id"),
+                    List.of("change_seq", "id"),
+                    List.of("person_id", "change_seq", "id"),
+                    List.of("person_id", "id"),
+                    List.of("tracking_status", "title", "id"),
+                    List.of("person_id", "tracking_status", "title", "id")
+            ),
+            "task_tombstones", List.of(
+                    List.of("change_seq", "task_id"),
+                    List.of("person_id", "change_seq", "task_id")
+            ),
+            "jobs", List.of(
+                    List.of("status", "id"),
+                    List.of("finished_at")
+            )
+    );
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+
+    /**
+     * Instantiates a new Schema index verifier.
+     *
+     * @param dataSource the data source
+     * @param enabled    whether to run the check at startup
+     */
+    public SchemaIndexVerifier(DataSource dataSource, @Value("${schema.verify-indexes:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> missing = findMissingIndexes();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database is missing required indexes: " + String.join(", ", missing)
+                    + ". Run the Flyway migrations or set schema.verify-indexes=false.");
+        }
+    }
+
+    /**
+     * Find missing indexes list.
+     *
+     * @return a description of each expected index that does not exist, empty when the schema is complete
+     * @throws SQLException if the database metadata cannot be read
+     */
+    public List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<List<String>>> table : EXPECTED_INDEXES.entrySet()) {
+                Set<List<String>> present = indexColumnLists(connection, metaData, table.getKey());
+                for (List<String> columns : table.getValue()) {
+                    if (!present.contains(columns)) {
+                        missing.add(table.getKey() + "(" + String.join(", ", columns) + ")");
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static Set<List<String>> indexColumnLists(Connection connection, DatabaseMetaData metaData, String table) throws SQLException {
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+
+        // index name -> (ordinal position -> column)
+        Map<String, Map<Short, String>> indexes = new TreeMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), name, false, false)) {
+            while (rows.next()) {
+                String index = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (index != null && column != null) {
+                    indexes.computeIfAbsent(index, key -> new TreeMap<>())
+                            .put(rows.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        Set<List<String>> columnLists = new HashSet<>();
+        for (Map<Short, String> columns : indexes.values()) {
+            columnLists.add(List.copyOf(columns.values()));
+        }
+        return columnLists;
+    }
+}
@@ -6,15 +6,26 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.example.tasktrackingsystem.exceptions.DatabaseBusyException;
+import com.example.tasktrackingsystem.exceptions.ExportBusyException;
 import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.exceptions.JobNotFoundException;
+import com.example.tasktrackingsystem.exceptions.JobQueueFullException;
+import com.example.tasktrackingsystem.exceptions.PasswordHashingBusyException;
+import com.example.tasktrackingsystem.exceptions.PreconditionFailedException;
 import com.example.tasktrackingsystem.exceptions.StatusNotFoundException;
 import com.example.tasktrackingsystem.exceptions.TaskNotFoundException;
+import com.example.tasktrackingsystem.exceptions.TooManyLoginAttemptsException;
 import com.example.tasktrackingsystem.exceptions.PersonNotFoundException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -91,6 +102,33 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", ex.getMessage(), req, null);
     }
 
+    /**
+     * Handle job not found response entity.
+     *
+     * @param ex  {@link JobNotFoundException}
+     * @param req {@link HttpServletRequest}
+     * @return {@code NOT_FOUND} Response build "JOB_NOT_FOUND"
+     */
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ApiError> handleJobNotFound(JobNotFoundException ex, HttpServletRequest req) {
+        return build(HttpStatus.NOT_FOUND, "JOB_NOT_FOUND", ex.getMessage(), req, null);
+    }
+
+    /**
+     * Handle precondition failed response entity.
+     *
+     * @param ex  {@link PreconditionFailedException} or an optimistic lock failure on a versioned entity
+     * @param req {@link HttpServletRequest}
+     * @return {@code PRECONDITION_FAILED} Response build "VERSION_CONFLICT"
+     */
+    @ExceptionHandler({ PreconditionFailedException.class, OptimisticLockingFailureException.class })
+    public ResponseEntity<ApiError> handlePreconditionFailed(RuntimeException ex, HttpServletRequest req) {
+        String message = ex instanceof PreconditionFailedException
+                ? ex.getMessage()
+                : "The resource has been changed by someone else. Reload it and try again.";
+        return build(HttpStatus.PRECONDITION_FAILED, "VERSION_CONFLICT", message, req, null);
+    }
+
     /**
      * Handle argument mismatch response entity.
      *
@@ -164,6 +202,84 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Invalid username or password.", req, null);
     }
 
+    /**
+     * Handle password hashing busy response entity.
+     *
+     * @param ex  {@link PasswordHashingBusyException}
+     * @param req {@link HttpServletRequest}
+     * @return {@code SERVICE_UNAVAILABLE} Response build "BUSY" with a {@code Retry-After} header
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiError> handlePasswordHashingBusy(PasswordHashingBusyException ex, HttpServletRequest req) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return build(HttpStatus.SERVICE_UNAVAILABLE, "BUSY", ex.getMessage(), req, null, headers);
+    }
+
+    /**
+     * Handle export busy response entity.
+     *
+     * @param ex  {@link ExportBusyException}
+     * @param req {@link HttpServletRequest}
+     * @return {@code SERVICE_UNAVAILABLE} Response build "BUSY" with a {@code Retry-After} header
+     */
+    @ExceptionHandler(ExportBusyException.class)
+    public ResponseEntity<ApiError> handleExportBusy(ExportBusyException ex, HttpServletRequest req) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return build(HttpStatus.SERVICE_UNAVAILABLE, "BUSY", ex.getMessage(), req, null, headers);
+    }
+
+    /**
+     * Handle job queue full response entity.
+     *
+     * @param ex  {@link JobQueueFullException}
+     * @param req {@link HttpServletRequest}
+     * @return {@code SERVICE_UNAVAILABLE} Response build "BUSY" with a {@code Retry-After} header
+     */
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<ApiError> handleJobQueueFull(JobQueueFullException ex, HttpServletRequest req) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return build(HttpStatus.SERVICE_UNAVAILABLE, "BUSY", ex.getMessage(), req, null, headers);
+    }
+
+    /**
+     * Handle database unavailable response entity.
+     * <p>
+     * Connection failures arrive wrapped by JPA or the transaction manager; only a full database gate
+     * (see {@link DatabaseBusyException}) is reported as busy, anything else is unexpected.
+     *
+     * @param ex  {@link CannotCreateTransactionException} or {@link DataAccessResourceFailureException}
+     * @param req {@link HttpServletRequest}
+     * @return {@code SERVICE_UNAVAILABLE} Response build "BUSY" with a {@code Retry-After} header
+     */
+    @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+    public ResponseEntity<ApiError> handleDatabaseUnavailable(Exception ex, HttpServletRequest req) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DatabaseBusyException busy) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+                return build(HttpStatus.SERVICE_UNAVAILABLE, "BUSY", busy.getMessage(), req, null, headers);
+            }
+        }
+        return handleUnexpected(ex, req);
+    }
+
+    /**
+     * Handle too many login attempts response entity.
+     *
+     * @param ex  {@link TooManyLoginAttemptsException}
+     * @param req {@link HttpServletRequest}
+     * @return {@code TOO_MANY_REQUESTS} Response build "TOO_MANY_ATTEMPTS" with a {@code Retry-After} header
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ApiError> handleTooManyLoginAttempts(TooManyLoginAttemptsException ex, HttpServletRequest req) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return build(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_ATTEMPTS", ex.getMessage(), req, null, headers);
+    }
+
     /**
      * Handle access denied response entity.
      *
@@ -238,6 +354,27 @@ public class GlobalExceptionHandler {
             String message,
             HttpServletRequest req,
             Map<String, String> fieldErrors
+    ) {
+        return build(status, error, message, req, fieldErrors, HttpHeaders.EMPTY);
+    }
+
+    /**
+     *
+     * @param status {@link HttpStatus}
+     * @param error {@link String}
+     * @param message {@link String}
+     * @param req {@link HttpServletRequest}
+     * @param fieldErrors {@link Map} {@code <String, String>}
+     * @param headers {@link HttpHeaders} extra response headers
+     * @return {@link ResponseEntity} {@code status}, {@code headers} and {@code body}
+     */
+    private ResponseEntity<ApiError> build(
+            HttpStatus status,
+            String error,
+            String message,
+            HttpServletRequest req,
+            Map<String, String> fieldErrors,
+            HttpHeaders headers
     ) {
         ApiError body = new ApiError(
                 Instant.now().toString(),
@@ -248,7 +385,7 @@ public class GlobalExceptionHandler {
                 fieldErrors
         );
 
-        return ResponseEntity.status(status).body(body);
+        return ResponseEntity.status(status).headers(headers).body(body);
     }
 
     /**
@@ -0,0 +1,210 @@
+package com.example.tasktrackingsystem.controllers;
+
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.CursorPage;
+import com.example.tasktrackingsystem.dto.JobDto;
+import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.dto.PersonWorkloadDto;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.TaskQuery;
+import com.example.tasktrackingsystem.service.JobService;
+import com.example.tasktrackingsystem.service.PersonService;
+import com.example.tasktrackingsystem.service.TaskExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * REST Controller for admin-only views and operations that span users.
+ */
+@RestController
+@RequestMapping("${api.path.admin}")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+@Tag(name = "Administration", description = "Admin-only views and background jobs across all users")
+public class AdminController {
+
+    private final PersonService personService;
+    private final JobService jobService;
+
+    @Value("${page.size}")
+    private int pageSize;
+
+    @Value("${api.path.admin}")
+    private String adminPath;
+
+    /**
+     * Lists users with their task counts per status, busiest first.
+     */
+    @Operation(summary = "Admin: Get user workload",
+            description = "Retrieves the next page of users with their task count per status, sorted by total or open (not completed) tasks, "
+                    + "highest first. Each page is one grouped query. Pass the returned nextCursor to continue. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved user workload")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/workload")
+    public ResponseEntity<CursorPage<PersonWorkloadDto>> getWorkload(
+            @Parameter(description = "Sort by total or open task count", example = "open") @RequestParam(defaultValue = "total") String sort,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(personService.findWorkload(PersonService.WorkloadOrder.of(sort), cursor, pageSize));
+    }
+
+    /**
+     * Submits an export of tasks to a file, for exports too large to stream in one request.
+     */
+    @Operation(summary = "Admin: Submit a task export job",
+            description = "Exports all tasks, optionally filtered by owner and status, to an NDJSON or CSV file in the background. "
+                    + "Poll the returned job and download the file from its result endpoint once it has succeeded. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Job queued")
+    @ApiResponse(responseCode = "400", description = "Unsupported format")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "503", description = "Too many jobs waiting")
+    @PostMapping("/jobs/exports")
+    public ResponseEntity<JobDto> submitExport(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Only tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Parameter(description = "Only tasks in one of these statuses; repeat the parameter for several") @RequestParam(required = false) Set<Status> status,
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        return accepted(jobService.exportTasks(personDto.getPersonId(), new TaskQuery(ownerId, status, null), TaskExportService.Format.of(format)));
+    }
+
+    /**
+     * Submits a status change of any number of tasks, applied a chunk at a time.
+     */
+    @Operation(summary = "Admin: Submit a bulk status change job",
+            description = "Moves the selected tasks, optionally of one owner, to the target status in the background, one chunk per transaction. "
+                    + "Select tasks either by taskIds or by currentStatus. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Job queued")
+    @ApiResponse(responseCode = "400", description = "Missing or ambiguous selection, or missing target status")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "503", description = "Too many jobs waiting")
+    @PostMapping("/jobs/transitions")
+    public ResponseEntity<JobDto> submitTransition(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Only tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Valid @RequestBody BulkStatusUpdateDto request
+    ) {
+        return accepted(jobService.transitionTasks(personDto.getPersonId(), ownerId, request));
+    }
+
+    /**
+     * Submits the deletion of a user and all of their tasks.
+     */
+    @Operation(summary = "Admin: Submit a user deletion job",
+            description = "Deletes every task of the user a chunk at a time, then the user, in the background. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Job queued")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "404", description = "User not found")
+    @ApiResponse(responseCode = "503", description = "Too many jobs waiting")
+    @PostMapping("/jobs/person-deletions/{personId}")
+    public ResponseEntity<JobDto> submitPersonDeletion(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "ID of the user to delete", example = "1") @PathVariable Long personId
+    ) {
+        return accepted(jobService.deletePerson(personDto.getPersonId(), personId));
+    }
+
+    /**
+     * Submits a rebuild of the in-memory task indexes.
+     */
+    @Operation(summary = "Admin: Submit an index rebuild job",
+            description = "Reloads the full-text search and title suggestion indexes from the database in the background. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Job queued")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "503", description = "Too many jobs waiting")
+    @PostMapping("/jobs/index-rebuilds")
+    public ResponseEntity<JobDto> submitIndexRebuild(@AuthenticationPrincipal PersonDto personDto) {
+        return accepted(jobService.rebuildIndexes(personDto.getPersonId()));
+    }
+
+    /**
+     * Lists background jobs, newest first.
+     */
+    @Operation(summary = "Admin: Get jobs",
+            description = "Retrieves the next page of background jobs, newest first. Pass the returned nextCursor to continue. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved jobs")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/jobs")
+    public ResponseEntity<CursorPage<JobDto>> getJobs(
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(jobService.getJobs(cursor, pageSize));
+    }
+
+    /**
+     * Gets one background job, for polling its status and progress.
+     */
+    @Operation(summary = "Admin: Get job", description = "Retrieves a background job with its status and progress. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved job")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "404", description = "Job not found")
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<JobDto> getJob(@Parameter(description = "ID of the job", example = "1") @PathVariable Long id) {
+        return ResponseEntity.ok(jobService.getJob(id));
+    }
+
+    /**
+     * Downloads the result file of a finished job.
+     */
+    @Operation(summary = "Admin: Download job result",
+            description = "Downloads the file produced by a succeeded export job. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Result file")
+    @ApiResponse(responseCode = "400", description = "The job has no downloadable result")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "404", description = "Job not found")
+    @GetMapping("/jobs/{id}/result")
+    public ResponseEntity<Resource> getJobResult(@Parameter(description = "ID of the job", example = "1") @PathVariable Long id) {
+        Path file = jobService.getResultFile(id);
+        String fileName = file.getFileName().toString();
+        TaskExportService.Format format = TaskExportService.Format.of(fileName.substring(fileName.lastIndexOf('.') + 1));
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("tasks." + format.getExtension()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    /**
+     * Cancels a background job.
+     */
+    @Operation(summary = "Admin: Cancel job",
+            description = "Cancels a queued job at once, or stops a running job after its current chunk; committed chunks are kept. "
+                    + "Cancelling a finished job changes nothing. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Cancellation accepted")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "404", description = "Job not found")
+    @DeleteMapping("/jobs/{id}")
+    public ResponseEntity<JobDto> cancelJob(@Parameter(description = "ID of the job", example = "1") @PathVariable Long id) {
+        return ResponseEntity.accepted().body(jobService.cancel(id));
+    }
+
+    // 202 with the job to poll in Location
+    private ResponseEntity<JobDto> accepted(JobDto job) {
+        return ResponseEntity.accepted().location(URI.create(adminPath + "/jobs/" + job.getId())).body(job);
+    }
+}
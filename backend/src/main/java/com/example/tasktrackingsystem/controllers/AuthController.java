@@ -1,10 +1,14 @@
 package com.example.tasktrackingsystem.controllers;
 
+import com.example.tasktrackingsystem.dto.AuthenticatedPerson;
 import com.example.tasktrackingsystem.dto.CreatePersonDto;
 import com.example.tasktrackingsystem.dto.LoginPersonDto;
 import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.repository.PersonVersionRow;
 import com.example.tasktrackingsystem.service.JwtService;
+import com.example.tasktrackingsystem.service.LoginThrottle;
 import com.example.tasktrackingsystem.service.PersonService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
@@ -14,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 /**
  * The type Auth controller.
  */
@@ -22,16 +28,19 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     private final PersonService personService;
     private final JwtService jwtService;
+    private final LoginThrottle loginThrottle;
 
     /**
      * Instantiates a new Auth controller.
      *
      * @param personService the person service
      * @param jwtService    the jwt service
+     * @param loginThrottle the login throttle
      */
-    public AuthController(PersonService personService, JwtService jwtService) {
+    public AuthController(PersonService personService, JwtService jwtService, LoginThrottle loginThrottle) {
         this.personService = personService;
         this.jwtService = jwtService;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -54,12 +63,14 @@ public class AuthController {
      * Login response entity.
      *
      * @param loginPersonDto the login person dto
+     * @param request        the request
      * @param response       the response
      * @return the response entity
      */
 // Login User
     @PostMapping("/login")
-    public ResponseEntity<PersonDto> login(@Valid @RequestBody LoginPersonDto loginPersonDto, HttpServletResponse response) {
+    public ResponseEntity<PersonDto> login(@Valid @RequestBody LoginPersonDto loginPersonDto, HttpServletRequest request, HttpServletResponse response) {
+        loginThrottle.acquire(loginPersonDto.getUsername(), request.getRemoteAddr());
         PersonDto toBeLoggedInPerson = personService.login(loginPersonDto.getUsername(), loginPersonDto.getPassword());
         if (!(toBeLoggedInPerson.getPersonId() == null)) {
             setJwtCookie(response, toBeLoggedInPerson, 24 * 60 * 60);
@@ -84,33 +95,38 @@ public class AuthController {
     /**
      * Me response entity.
      *
-     * @param token the token
+     * @param token       the token
+     * @param ifNoneMatch the entity tag of the client's copy, if any
      * @return the response entity
      */
     @GetMapping("/me")
-    public ResponseEntity<PersonDto> me(@CookieValue(name = "token", required = false) String token) {
+    public ResponseEntity<PersonDto> me(@CookieValue(name = "token", required = false) String token,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         if (token == null || token.isBlank()) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        if (!jwtService.isTokenValid(token)) {
-            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
-        }
-
-        Long userId;
+        Optional<AuthenticatedPerson> principal;
         try {
-            userId = jwtService.extractUserId(token);
+            principal = jwtService.verify(token);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        PersonDto person = personService.findById(userId);
-
-        if (person == null || person.getPersonId() == null) {
+        if (principal.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        return new ResponseEntity<>(person, HttpStatus.OK);
+        Long userId = principal.get().personId();
+        // Body and tag come from one uncached read, so the tag always names the version the body was read at;
+        // the cached findById could pair a newer tag with an older body
+        PersonVersionRow current = personService.findCurrent(userId);
+        String etag = ETags.person(userId, current.getVersion());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
+
+        return ETags.ok(PersonService.convertRowToDto(current), etag);
     }
 
     private void setJwtCookie(HttpServletResponse response, PersonDto personDto, long maxAge) {
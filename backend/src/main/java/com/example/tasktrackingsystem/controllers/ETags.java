@@ -0,0 +1,151 @@
+package com.example.tasktrackingsystem.controllers;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Strong entity tags derived from row versions.
+ * <p>
+ * A single resource's tag is built from its id and version, so a revalidation only needs a version lookup.
+ * List pages get an aggregate tag over the page shape and every row's id and version.
+ */
+final class ETags {
+
+    // Store, but revalidate on every use; Spring Security would otherwise send no-store and browsers never revalidate
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * Task entity tag.
+     *
+     * @param id            the task id
+     * @param version       the task version
+     * @param ownerUsername the owner's username, which is part of the representation but not of the task row
+     * @return the quoted entity tag
+     */
+    static String task(Long id, Long version, String ownerUsername) {
+        return "\"task-" + id + "-" + version + "-" + Integer.toHexString(String.valueOf(ownerUsername).hashCode()) + "\"";
+    }
+
+    /**
+     * Task entity tag.
+     *
+     * @param task the task
+     * @return the quoted entity tag
+     */
+    static String task(TaskDto task) {
+        return task(task.getId(), task.getVersion(), task.getUsername());
+    }
+
+    /**
+     * Person entity tag.
+     *
+     * @param id      the person id
+     * @param version the person version
+     * @return the quoted entity tag
+     */
+    static String person(Long id, Long version) {
+        return "\"person-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Aggregate entity tag of a page of tasks.
+     *
+     * @param page the page
+     * @return the quoted entity tag
+     */
+    static String page(Slice<TaskDto> page) {
+        MessageDigest digest = sha256();
+        StringBuilder key = new StringBuilder(64 + page.getNumberOfElements() * 24)
+                .append(page.getNumber()).append('/').append(page.getSize()).append('/').append(page.hasNext())
+                .append('/').append(page instanceof Page<TaskDto> counted ? counted.getTotalElements() : -1);
+        for (TaskDto task : page) {
+            key.append(';').append(task.getId()).append(':').append(task.getVersion()).append(':').append(task.getUsername());
+        }
+        byte[] hash = digest.digest(key.toString().getBytes(StandardCharsets.UTF_8));
+        return "\"page-" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches the current tag, using weak comparison as RFC 9110 requires.
+     *
+     * @param ifNoneMatch the header value, may be {@code null}
+     * @param etag        the current quoted entity tag
+     * @return true when the client's copy is current
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an {@code If-Match} header matches the current tag. Strong comparison: weak tags never match.
+     *
+     * @param ifMatch the header value
+     * @param etag    the current quoted entity tag
+     * @return true when the client's copy is current
+     */
+    static boolean matchesStrong(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A 200 response carrying the entity tag; Spring answers 304 instead when {@code If-None-Match} matches.
+     *
+     * @param body the body
+     * @param etag the quoted entity tag
+     * @param <T>  the body type
+     * @return the response entity
+     */
+    static <T> ResponseEntity<T> ok(T body, String etag) {
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(body);
+    }
+
+    /**
+     * A 304 response without a body.
+     *
+     * @param etag the quoted entity tag
+     * @param <T>  the body type
+     * @return the response entity
+     */
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(etag).build();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package com.example.tasktrackingsystem.controllers;
 
 import com.example.tasktrackingsystem.dto.*;
+import com.example.tasktrackingsystem.service.LoginThrottle;
 import com.example.tasktrackingsystem.service.PersonService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The type Person controller.
@@ -21,6 +24,7 @@ import java.util.List;
 public class PersonController {
 
     private final PersonService personService;
+    private final LoginThrottle loginThrottle;
 
     @Value("${page.size}")
     private int PAGE_SIZE;
@@ -29,9 +33,11 @@ public class PersonController {
      * Instantiates a new Person controller.
      *
      * @param personService the person service
+     * @param loginThrottle the login throttle
      */
-    public PersonController(PersonService personService) {
+    public PersonController(PersonService personService, LoginThrottle loginThrottle) {
         this.personService = personService;
+        this.loginThrottle = loginThrottle;
     }
 
     /**
@@ -47,14 +53,42 @@ public class PersonController {
     }
 
     /**
-     * Find all response entity.
+     * Find directory response entity.
+     *
+     * @param sort   username or fullName
+     * @param prefix only people whose sort column starts with this text
+     * @param cursor the cursor from the previous page
+     * @return the response entity
+     */
+// Get Directory (keyset paginated)
+    @GetMapping("/directory")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPage<PersonDto>> findDirectory(
+            @RequestParam(defaultValue = "username") String sort,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String cursor
+    ) {
+        PersonService.DirectoryOrder order = PersonService.DirectoryOrder.of(sort);
+        return new ResponseEntity<>(personService.findDirectory(order, prefix, cursor, PAGE_SIZE), HttpStatus.OK);
+    }
+
+    /**
+     * Stream directory response entity.
      *
+     * @param sort   username or fullName
+     * @param prefix only people whose sort column starts with this text
      * @return the response entity
      */
-// Get All
-    @GetMapping("/all")
-    public ResponseEntity<List<PersonDto>> findAll() {
-        return new ResponseEntity<>(personService.findAll(), HttpStatus.OK);
+// Get Directory (streamed NDJSON)
+    @GetMapping(value = "/directory/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamDirectory(
+            @RequestParam(defaultValue = "username") String sort,
+            @RequestParam(required = false) String prefix
+    ) {
+        PersonService.DirectoryOrder order = PersonService.DirectoryOrder.of(sort);
+        StreamingResponseBody body = out -> personService.streamDirectory(order, prefix, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
@@ -74,11 +108,13 @@ public class PersonController {
      * Login response entity.
      *
      * @param loginPersonDto the login person dto
+     * @param request        the request
      * @return the response entity
      */
 // Login
     @PostMapping("/login")
-    public ResponseEntity<PersonDto> login(@RequestBody @Valid LoginPersonDto loginPersonDto) {
+    public ResponseEntity<PersonDto> login(@RequestBody @Valid LoginPersonDto loginPersonDto, HttpServletRequest request) {
+        loginThrottle.acquire(loginPersonDto.getUsername(), request.getRemoteAddr());
         return new ResponseEntity<>(
                 personService.login(loginPersonDto.getUsername(), loginPersonDto.getPassword()),
                 HttpStatus.OK
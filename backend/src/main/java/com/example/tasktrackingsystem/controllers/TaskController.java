@@ -1,25 +1,51 @@
 package com.example.tasktrackingsystem.controllers;
 
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateResultDto;
 import com.example.tasktrackingsystem.dto.CreateTaskDto;
+import com.example.tasktrackingsystem.dto.CursorPage;
 import com.example.tasktrackingsystem.dto.PersonDto;
 import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskImportResultDto;
+import com.example.tasktrackingsystem.dto.TaskSearchHitDto;
+import com.example.tasktrackingsystem.dto.TaskSyncDto;
+import com.example.tasktrackingsystem.dto.TaskTotalsDto;
+import com.example.tasktrackingsystem.exceptions.PreconditionFailedException;
 import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.TaskQuery;
+import com.example.tasktrackingsystem.repository.TaskVersionRow;
+import com.example.tasktrackingsystem.service.TaskEventBroadcaster;
+import com.example.tasktrackingsystem.service.TaskExportService;
+import com.example.tasktrackingsystem.service.TaskImportService;
 import com.example.tasktrackingsystem.service.TaskService;
+import com.example.tasktrackingsystem.service.TaskStatusCounters;
+import com.example.tasktrackingsystem.service.TaskSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for managing tasks.
@@ -32,6 +58,11 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
+    private final TaskStatusCounters taskStatusCounters;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskSyncService taskSyncService;
 
     @Value("${page.size}")
     private int pageSize;
@@ -45,22 +76,35 @@ public class TaskController {
     @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
     @GetMapping("/paginated/{pageNumber}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<Page<TaskDto>> getAllTasks(
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber) {
+    public ResponseEntity<Slice<TaskDto>> getAllTasks(
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getAllTasks(pageable));
+        return ResponseEntity.ok(count ? taskService.getAllTasks(pageable) : taskService.getAllTasksSlice(pageable));
     }
 
     /**
      * Retrieves a specific task by its ID.
      */
-    @Operation(summary = "Get task by ID", description = "Fetches a single task's details using its unique ID.")
+    @Operation(summary = "Get task by ID",
+            description = "Fetches a single task's details using its unique ID. Send the returned ETag as If-None-Match to get 304 while the task is unchanged.")
     @ApiResponse(responseCode = "200", description = "Task found")
+    @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match")
     @ApiResponse(responseCode = "404", description = "Task not found")
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskDto> getTaskById(
-            @Parameter(description = "ID of the task to retrieve", example = "1") @PathVariable Long taskId) {
-        return ResponseEntity.ok(taskService.getTaskById(taskId));
+            @Parameter(description = "ID of the task to retrieve", example = "1") @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Revalidation reads only the version column; the task is loaded only when it has changed
+        if (ifNoneMatch != null) {
+            TaskVersionRow current = taskService.getTaskVersion(taskId);
+            String etag = ETags.task(taskId, current.getVersion(), current.getUsername());
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ETags.notModified(etag);
+            }
+        }
+        TaskDto task = taskService.getTaskById(taskId);
+        return ETags.ok(task, ETags.task(task));
     }
 
     /**
@@ -68,14 +112,16 @@ public class TaskController {
      */
     @Operation(summary = "Get my tasks", description = "Retrieves a paginated list of tasks belonging to the currently authenticated user.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved personal tasks")
+    @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match")
     @GetMapping("/my-tasks/paginated/{pageNumber}")
-    public ResponseEntity<Page<TaskDto>> getMyTasks(
+    public ResponseEntity<Slice<TaskDto>> getMyTasks(
             @AuthenticationPrincipal PersonDto personDto,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Long userId = personDto.getPersonId();
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getTasksByUserId(userId, pageable));
+        return withETag(count ? taskService.getTasksByUserId(userId, pageable) : taskService.getTasksByUserIdSlice(userId, pageable));
     }
 
     /**
@@ -85,14 +131,15 @@ public class TaskController {
             description = "Retrieves a paginated list of tasks belonging to the authenticated user, filtered by a specific status.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered personal tasks")
     @GetMapping("/my-tasks/filter/paginated/{pageNumber}")
-    public ResponseEntity<Page<TaskDto>> getMyTasksByStatus(
+    public ResponseEntity<Slice<TaskDto>> getMyTasksByStatus(
             @AuthenticationPrincipal PersonDto personDto,
             @Parameter(description = "The status to filter tasks by", example = "TO_DO") @RequestParam Status status,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Long userId = personDto.getPersonId();
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getTasksByUserIdAndStatus(userId, status, pageable));
+        return withETag(count ? taskService.getTasksByUserIdAndStatus(userId, status, pageable) : taskService.getTasksByUserIdAndStatusSlice(userId, status, pageable));
     }
 
     @Operation(summary = "Admin: Filter all tasks by Title",
@@ -102,14 +149,15 @@ public class TaskController {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered global tasks")
     @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
     @GetMapping("/my-tasks/filter/title/{title}/paginated/{pageNumber}")
-    public ResponseEntity<Page<TaskDto>> getMyTasksByTitle(
+    public ResponseEntity<Slice<TaskDto>> getMyTasksByTitle(
             @AuthenticationPrincipal PersonDto personDto,
             @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Long userId = personDto.getPersonId();
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getMyTasksByTitle(userId, title, pageable));
+        return withETag(count ? taskService.getMyTasksByTitle(userId, title, pageable) : taskService.getMyTasksByTitleSlice(userId, title, pageable));
     }
 
     @Operation(summary = "Admin: Filter all tasks by Title and Status",
@@ -119,15 +167,16 @@ public class TaskController {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered global tasks")
     @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
     @GetMapping("/my-tasks/filter/title/{title}/status/{status}/paginated/{pageNumber}")
-    public ResponseEntity<Page<TaskDto>> getMyTasksByTitleAndStatus(
+    public ResponseEntity<Slice<TaskDto>> getMyTasksByTitleAndStatus(
             @AuthenticationPrincipal PersonDto personDto,
             @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
             @Parameter(description = "Status to filter by", example = "IN_PROGRESS") @PathVariable Status status,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Long userId = personDto.getPersonId();
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getMyTasksByTitleAndStatus(userId, title, status, pageable));
+        return withETag(count ? taskService.getMyTasksByTitleAndStatus(userId, title, status, pageable) : taskService.getMyTasksByTitleAndStatusSlice(userId, title, status, pageable));
     }
 
     /**
@@ -142,12 +191,13 @@ public class TaskController {
     @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
     @GetMapping("/status/{status}/paginated/{pageNumber}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<Page<TaskDto>> getTasksByStatus(
+    public ResponseEntity<Slice<TaskDto>> getTasksByStatus(
             @Parameter(description = "Status to filter by", example = "IN_PROGRESS") @PathVariable Status status,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getTasksByStatus(status, pageable));
+        return ResponseEntity.ok(count ? taskService.getTasksByStatus(status, pageable) : taskService.getTasksByStatusSlice(status, pageable));
     }
 
     @Operation(summary = "Admin: Filter all tasks by Title",
@@ -158,12 +208,13 @@ public class TaskController {
     @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
     @GetMapping("/title/{title}/paginated/{pageNumber}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<Page<TaskDto>> getTasksByTitle(
+    public ResponseEntity<Slice<TaskDto>> getTasksByTitle(
             @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getTasksByTitle(title, pageable));
+        return ResponseEntity.ok(count ? taskService.getTasksByTitle(title, pageable) : taskService.getTasksByTitleSlice(title, pageable));
     }
 
     @Operation(summary = "Admin: Filter all tasks by Title and Status",
@@ -174,13 +225,358 @@ public class TaskController {
     @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
     @GetMapping("/title/{title}/status/{status}/paginated/{pageNumber}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<Page<TaskDto>> getTasksByTitleAndStatus(
+    public ResponseEntity<Slice<TaskDto>> getTasksByTitleAndStatus(
             @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
             @Parameter(description = "Status to filter by", example = "IN_PROGRESS") @PathVariable Status status,
-            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber
+            @Parameter(description = "Zero-based page index", example = "0") @PathVariable int pageNumber,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
     ) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        return ResponseEntity.ok(taskService.getTasksByTitleAndStatus(title, status, pageable));
+        return ResponseEntity.ok(count ? taskService.getTasksByTitleAndStatus(title, status, pageable) : taskService.getTasksByTitleAndStatusSlice(title, status, pageable));
+    }
+
+    /**
+     * User: Task totals per status for the authenticated user.
+     */
+    @Operation(summary = "Get my task totals",
+            description = "Returns the authenticated user's task count per status without paging through tasks. Same in-memory counters as /my-tasks/stats.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved personal task totals")
+    @GetMapping("/my-tasks/totals")
+    public ResponseEntity<TaskTotalsDto> getMyTaskTotals(@AuthenticationPrincipal PersonDto personDto) {
+        return ResponseEntity.ok(taskStatusCounters.totals(personDto.getPersonId()));
+    }
+
+    /**
+     * Admin: Task totals per status across all users.
+     */
+    @Operation(summary = "Admin: Get task totals",
+            description = "Returns the task count per status across all users. Same in-memory counters as /stats. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved global task totals")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/totals")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TaskTotalsDto> getTaskTotals() {
+        return ResponseEntity.ok(taskStatusCounters.totals());
+    }
+
+    /**
+     * User: Live task counts per status for the authenticated user, served from memory.
+     */
+    @Operation(summary = "Get my task stats",
+            description = "Returns the authenticated user's task count per status from in-memory counters. Never queries the database.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved personal task stats")
+    @GetMapping("/my-tasks/stats")
+    public ResponseEntity<TaskTotalsDto> getMyTaskStats(@AuthenticationPrincipal PersonDto personDto) {
+        return ResponseEntity.ok(taskStatusCounters.totals(personDto.getPersonId()));
+    }
+
+    /**
+     * Admin: Live task counts per status overall or for one user, served from memory.
+     */
+    @Operation(summary = "Admin: Get task stats",
+            description = "Returns the task count per status across all users, or for one user, from in-memory counters that are "
+                    + "updated on every change and periodically reconciled with the database. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved task stats")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/stats")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TaskTotalsDto> getTaskStats(
+            @Parameter(description = "Only count tasks owned by this user") @RequestParam(required = false) Long ownerId) {
+        return ResponseEntity.ok(ownerId != null ? taskStatusCounters.totals(ownerId) : taskStatusCounters.totals());
+    }
+
+    /**
+     * User: Live stream of changes to the authenticated user's tasks.
+     */
+    @Operation(summary = "Subscribe to my task changes",
+            description = "Opens a Server-Sent Events stream that pushes every create, update and delete of the authenticated user's tasks. "
+                    + "Events are named created, updated or deleted and carry the task as JSON. A client that is closed for falling behind "
+                    + "should reconnect and refetch.")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @GetMapping(value = "/my-tasks/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyTaskEvents(@AuthenticationPrincipal PersonDto personDto) {
+        return taskEventBroadcaster.subscribeOwner(personDto.getPersonId());
+    }
+
+    /**
+     * Admin: Live stream of changes to every task.
+     */
+    @Operation(summary = "Admin: Subscribe to task changes",
+            description = "Opens a Server-Sent Events stream of every task change, optionally only changes into or out of the given statuses. "
+                    + "Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public SseEmitter streamTaskEvents(
+            @Parameter(description = "Only changes into or out of one of these statuses; repeat the parameter for several") @RequestParam(required = false) Set<Status> status) {
+        return taskEventBroadcaster.subscribeAll(status);
+    }
+
+    /**
+     * User: Composable query over the authenticated user's tasks.
+     */
+    @Operation(summary = "Query my tasks",
+            description = "Filters the authenticated user's tasks by statuses and title text, sorted by id, title or status. "
+                    + "Several statuses can only be combined with sort=status.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved personal tasks")
+    @ApiResponse(responseCode = "400", description = "Unsupported sort key or direction, or several statuses with a sort other than status")
+    @GetMapping("/my-tasks/query")
+    public ResponseEntity<Slice<TaskDto>> queryMyTasks(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Only tasks in one of these statuses; repeat the parameter for several") @RequestParam(required = false) Set<Status> status,
+            @Parameter(description = "Only tasks whose title contains this text, ignoring case") @RequestParam(required = false) String title,
+            @Parameter(description = "Sort key: id, title or status", example = "id") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Sort direction: asc or desc", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Zero-based page index", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
+    ) {
+        TaskQuery query = new TaskQuery(personDto.getPersonId(), status, title);
+        return withETag(taskService.queryTasks(query, sort, direction, page, pageSize, count));
+    }
+
+    /**
+     * Admin: Composable query over every task.
+     */
+    @Operation(summary = "Admin: Query tasks",
+            description = "Filters all tasks by owner, statuses and title text, sorted by id, title or status. "
+                    + "Several statuses can only be combined with sort=status. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks")
+    @ApiResponse(responseCode = "400", description = "Unsupported sort key or direction, or several statuses with a sort other than status")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/query")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Slice<TaskDto>> queryTasks(
+            @Parameter(description = "Only tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Parameter(description = "Only tasks in one of these statuses; repeat the parameter for several") @RequestParam(required = false) Set<Status> status,
+            @Parameter(description = "Only tasks whose title contains this text, ignoring case") @RequestParam(required = false) String title,
+            @Parameter(description = "Sort key: id, title or status", example = "id") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "Sort direction: asc or desc", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Zero-based page index", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Set to false to skip the total count query; the response then only reports whether a next page exists") @RequestParam(defaultValue = "true") boolean count
+    ) {
+        TaskQuery query = new TaskQuery(ownerId, status, title);
+        return ResponseEntity.ok(taskService.queryTasks(query, sort, direction, page, pageSize, count));
+    }
+
+    /**
+     * User: Ranked full-text search over the authenticated user's task titles and descriptions.
+     */
+    @Operation(summary = "Search my tasks",
+            description = "Ranks the authenticated user's tasks by how well their title and description match the query terms. Title matches weigh more.")
+    @ApiResponse(responseCode = "200", description = "Successfully searched personal tasks")
+    @ApiResponse(responseCode = "400", description = "Query has no searchable terms")
+    @GetMapping("/my-tasks/search")
+    public ResponseEntity<List<TaskSearchHitDto>> searchMyTasks(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Free-text query", example = "capstone backend") @RequestParam String q,
+            @Parameter(description = "Only return tasks with this status") @RequestParam(required = false) Status status,
+            @Parameter(description = "Zero-based page index", example = "0") @RequestParam(defaultValue = "0") int page
+    ) {
+        return ResponseEntity.ok(taskService.searchTasks(q, personDto.getPersonId(), status, page, pageSize));
+    }
+
+    /**
+     * Admin: Ranked full-text search over every task, optionally narrowed to one owner.
+     */
+    @Operation(summary = "Admin: Search tasks",
+            description = "Ranks every task by how well its title and description match the query terms, optionally filtered by owner and status. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully searched tasks")
+    @ApiResponse(responseCode = "400", description = "Query has no searchable terms")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/search")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<TaskSearchHitDto>> searchTasks(
+            @Parameter(description = "Free-text query", example = "capstone backend") @RequestParam String q,
+            @Parameter(description = "Only return tasks with this status") @RequestParam(required = false) Status status,
+            @Parameter(description = "Only return tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Parameter(description = "Zero-based page index", example = "0") @RequestParam(defaultValue = "0") int page
+    ) {
+        return ResponseEntity.ok(taskService.searchTasks(q, ownerId, status, page, pageSize));
+    }
+
+    /**
+     * User: Typeahead suggestions from the authenticated user's task titles.
+     */
+    @Operation(summary = "Suggest my task titles",
+            description = "Returns distinct titles of the authenticated user's tasks that start with the given prefix, ignoring case. Meant to be called on each keystroke.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions")
+    @GetMapping("/my-tasks/suggest")
+    public ResponseEntity<List<String>> suggestMyTaskTitles(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Title prefix typed so far", example = "comp") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (at most 20)", example = "10") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(taskService.suggestTitlesByUserId(personDto.getPersonId(), prefix, limit));
+    }
+
+    /**
+     * Admin: Typeahead suggestions from every task title.
+     */
+    @Operation(summary = "Admin: Suggest task titles",
+            description = "Returns distinct titles across all tasks that start with the given prefix, ignoring case. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/suggest")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<String>> suggestTaskTitles(
+            @Parameter(description = "Title prefix typed so far", example = "comp") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (at most 20)", example = "10") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(taskService.suggestTitles(prefix, limit));
+    }
+
+    // --------------------------------------------------------------------------------
+    // ---------------------- KEYSET (CURSOR) PAGINATED VARIANTS ----------------------
+    // --------------------------------------------------------------------------------
+
+    /**
+     * Admin: Keyset-paginated list of every task. Cost does not grow with page depth.
+     */
+    @Operation(summary = "Admin: Get all tasks (cursor)",
+            description = "Retrieves the next page of every task after an opaque cursor. Pass the returned nextCursor to continue. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved all tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPage<TaskDto>> getAllTasksByCursor(
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(taskService.getAllTasksAfter(cursor, pageSize));
+    }
+
+    /**
+     * User: Changes to the authenticated user's tasks since a watermark.
+     */
+    @Operation(summary = "Sync my tasks",
+            description = "Returns the authenticated user's tasks created, updated or deleted after the watermark, with a new watermark. "
+                    + "Omit the watermark for a full sync; while hasMore is true, call again with the returned watermark.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved changes")
+    @ApiResponse(responseCode = "400", description = "Invalid watermark")
+    @GetMapping("/my-tasks/sync")
+    public ResponseEntity<TaskSyncDto> syncMyTasks(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Watermark from the previous sync; omit for a full sync") @RequestParam(required = false) String watermark
+    ) {
+        return ResponseEntity.ok(taskSyncService.sync(personDto.getPersonId(), watermark));
+    }
+
+    /**
+     * Admin: Changes to every task since a watermark.
+     */
+    @Operation(summary = "Admin: Sync tasks",
+            description = "Returns the tasks created, updated or deleted after the watermark, for every user or one user, with a new watermark. "
+                    + "Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved changes")
+    @ApiResponse(responseCode = "400", description = "Invalid watermark")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/sync")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TaskSyncDto> syncTasks(
+            @Parameter(description = "Only tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Parameter(description = "Watermark from the previous sync; omit for a full sync") @RequestParam(required = false) String watermark
+    ) {
+        return ResponseEntity.ok(taskSyncService.sync(ownerId, watermark));
+    }
+
+    /**
+     * User: Keyset-paginated list of the authenticated user's tasks.
+     */
+    @Operation(summary = "Get my tasks (cursor)", description = "Retrieves the next page of the authenticated user's tasks after an opaque cursor.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved personal tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping("/my-tasks/cursor")
+    public ResponseEntity<CursorPage<TaskDto>> getMyTasksByCursor(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByUserIdAfter(personDto.getPersonId(), cursor, pageSize));
+    }
+
+    /**
+     * User: Keyset-paginated list of the authenticated user's tasks filtered by status.
+     */
+    @Operation(summary = "Filter my tasks by status (cursor)",
+            description = "Retrieves the next page of the authenticated user's tasks with the given status after an opaque cursor.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered personal tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping("/my-tasks/filter/cursor")
+    public ResponseEntity<CursorPage<TaskDto>> getMyTasksByStatusByCursor(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "The status to filter tasks by", example = "TO_DO") @RequestParam Status status,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByUserIdAndStatusAfter(personDto.getPersonId(), status, cursor, pageSize));
+    }
+
+    @Operation(summary = "Filter my tasks by Title (cursor)",
+            description = "Retrieves the next page of the authenticated user's tasks matching a title substring after an opaque cursor.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered personal tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping("/my-tasks/filter/title/{title}/cursor")
+    public ResponseEntity<CursorPage<TaskDto>> getMyTasksByTitleByCursor(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getMyTasksByTitleAfter(personDto.getPersonId(), title, cursor, pageSize));
+    }
+
+    @Operation(summary = "Filter my tasks by Title and Status (cursor)",
+            description = "Retrieves the next page of the authenticated user's tasks matching a status and title substring after an opaque cursor.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered personal tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping("/my-tasks/filter/title/{title}/status/{status}/cursor")
+    public ResponseEntity<CursorPage<TaskDto>> getMyTasksByTitleAndStatusByCursor(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
+            @Parameter(description = "Status to filter by", example = "IN_PROGRESS") @PathVariable Status status,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getMyTasksByTitleAndStatusAfter(personDto.getPersonId(), title, status, cursor, pageSize));
+    }
+
+    @Operation(summary = "Admin: Filter all tasks by status (cursor)",
+            description = "Retrieves the next page of all tasks with the given status after an opaque cursor. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered global tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/status/{status}/cursor")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPage<TaskDto>> getTasksByStatusByCursor(
+            @Parameter(description = "Status to filter by", example = "IN_PROGRESS") @PathVariable Status status,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByStatusAfter(status, cursor, pageSize));
+    }
+
+    @Operation(summary = "Admin: Filter all tasks by Title (cursor)",
+            description = "Retrieves the next page of all tasks matching a title substring after an opaque cursor. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered global tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/title/{title}/cursor")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPage<TaskDto>> getTasksByTitleByCursor(
+            @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByTitleAfter(title, cursor, pageSize));
+    }
+
+    @Operation(summary = "Admin: Filter all tasks by Title and Status (cursor)",
+            description = "Retrieves the next page of all tasks matching a status and title substring after an opaque cursor. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered global tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @GetMapping("/title/{title}/status/{status}/cursor")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CursorPage<TaskDto>> getTasksByTitleAndStatusByCursor(
+            @Parameter(description = "Substring to search against, ignoring case", example = "salesPitch") @PathVariable String title,
+            @Parameter(description = "Status to filter by", example = "IN_PROGRESS") @PathVariable Status status,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByTitleAndStatusAfter(title, status, cursor, pageSize));
     }
 
     /**
@@ -198,23 +594,192 @@ public class TaskController {
         return new ResponseEntity<>(taskService.createTask(taskDto, userId), HttpStatus.CREATED);
     }
 
+    /**
+     * User: Moves many of the authenticated user's tasks to one status at once.
+     */
+    @Operation(summary = "Bulk change my task status",
+            description = "Moves the authenticated user's tasks, selected by ID or by current status, to the target status in one set-based update. "
+                    + "IDs that are unknown, owned by someone else or already in the target status are reported as skipped. "
+                    + "A selection by status may match at most 1000 tasks.")
+    @ApiResponse(responseCode = "200", description = "Status change applied")
+    @ApiResponse(responseCode = "400", description = "Missing or ambiguous selection, or more than 1000 tasks in the current status")
+    @PatchMapping("/my-tasks/status")
+    public ResponseEntity<BulkStatusUpdateResultDto> transitionMyTasks(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Valid @RequestBody BulkStatusUpdateDto request
+    ) {
+        return ResponseEntity.ok(taskService.transitionMyTasks(personDto.getPersonId(), request));
+    }
+
+    /**
+     * Admin: Moves many tasks of any owner to one status at once.
+     */
+    @Operation(summary = "Admin: Bulk change task status",
+            description = "Moves tasks of any owner, selected by ID or by current status, to the target status in one set-based update. "
+                    + "Optionally restricted to one owner. A selection by status may match at most 1000 tasks; "
+                    + "submit a transition job (POST /api/admin/jobs/transitions) for more. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Status change applied")
+    @ApiResponse(responseCode = "400", description = "Missing or ambiguous selection, or more than 1000 tasks in the current status")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @PatchMapping("/status")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<BulkStatusUpdateResultDto> transitionTasks(
+            @Parameter(description = "Only move tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Valid @RequestBody BulkStatusUpdateDto request
+    ) {
+        return ResponseEntity.ok(taskService.transitionTasks(ownerId, request));
+    }
+
+    /**
+     * Bulk-creates tasks for the authenticated user from a streamed JSON array or NDJSON body.
+     */
+    @Operation(summary = "Import tasks",
+            description = "Creates many tasks for the authenticated user in one request. The body is a JSON array of tasks or one task per line (NDJSON). "
+                    + "Invalid rows are skipped, valid rows are inserted in chunks, and the response reports the outcome of every row.")
+    @ApiResponse(responseCode = "200", description = "Import finished; see the per-row results")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TaskImportResultDto> importTasks(
+            @AuthenticationPrincipal PersonDto personDto,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(taskImportService.importTasks(request.getInputStream(), personDto.getPersonId()));
+    }
+
+    /**
+     * User: Streams the authenticated user's tasks as NDJSON or CSV.
+     */
+    @Operation(summary = "Export my tasks",
+            description = "Streams all of the authenticated user's tasks, optionally filtered by status, as NDJSON or CSV in id order. "
+                    + "The response is gzip-compressed when the client accepts it.")
+    @ApiResponse(responseCode = "200", description = "Export streamed")
+    @ApiResponse(responseCode = "400", description = "Unsupported format")
+    @ApiResponse(responseCode = "503", description = "Too many exports are streaming; retry after the Retry-After delay")
+    @GetMapping("/my-tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportMyTasks(
+            @AuthenticationPrincipal PersonDto personDto,
+            @Parameter(description = "Only tasks in one of these statuses; repeat the parameter for several") @RequestParam(required = false) Set<Status> status,
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(new TaskQuery(personDto.getPersonId(), status, null), format, acceptEncoding);
+    }
+
+    /**
+     * Admin: Streams every task, or one owner's tasks, as NDJSON or CSV.
+     */
+    @Operation(summary = "Admin: Export tasks",
+            description = "Streams all tasks, optionally filtered by owner and status, as NDJSON or CSV in id order. "
+                    + "The response is gzip-compressed when the client accepts it. For large exports prefer the "
+                    + "background export job under the admin jobs API. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Export streamed")
+    @ApiResponse(responseCode = "400", description = "Unsupported format")
+    @ApiResponse(responseCode = "403", description = "Access denied - ADMIN role required")
+    @ApiResponse(responseCode = "503", description = "Too many exports are streaming; retry after the Retry-After delay")
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Only tasks owned by this user") @RequestParam(required = false) Long ownerId,
+            @Parameter(description = "Only tasks in one of these statuses; repeat the parameter for several") @RequestParam(required = false) Set<Status> status,
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return export(new TaskQuery(ownerId, status, null), format, acceptEncoding);
+    }
+
+    // The body runs after this method returns, on the async request thread; the slot is taken here so a full
+    // house is still answered with a plain 503 rather than a half-committed download
+    private ResponseEntity<StreamingResponseBody> export(TaskQuery query, String formatName, String acceptEncoding) {
+        TaskExportService.Format format = TaskExportService.Format.of(formatName);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        TaskExportService.Slot slot = taskExportService.reserveStream();
+
+        StreamingResponseBody body = out -> {
+            try (slot) {
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                    taskExportService.export(query, format, compressed);
+                    compressed.finish();
+                } else {
+                    taskExportService.export(query, format, out);
+                }
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("tasks." + format.getExtension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // True when the header lists gzip (or *) without q=0
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) == 0;
+                    } catch (NumberFormatException ex) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The page body is serialized only when If-None-Match does not match; Spring answers 304 otherwise
+    private static ResponseEntity<Slice<TaskDto>> withETag(Slice<TaskDto> page) {
+        return ETags.ok(page, ETags.page(page));
+    }
+
     /**
      * Updates an existing task.
      * @param taskDetails reuses {@link CreateTaskDto} for same field update
      */
-    @Operation(summary = "Update task", description = "Updates the title, description, or status of an existing task owned by the user.")
+    @Operation(summary = "Update task",
+            description = "Updates the title, description, or status of an existing task owned by the user. "
+                    + "Send the task's ETag as If-Match, or its version in the body, to have the update rejected if someone else changed the task first.")
     @ApiResponse(responseCode = "200", description = "Task updated successfully")
     @ApiResponse(responseCode = "400", description = "Invalid input data provided")
     @ApiResponse(responseCode = "403", description = "Access denied - You do not own this task")
     @ApiResponse(responseCode = "404", description = "Task not found")
+    @ApiResponse(responseCode = "412", description = "The task has changed since the given ETag or version")
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskDto> updateTask(
             @Parameter(description = "ID of the task to update", example = "1") @PathVariable Long taskId,
             @Valid @RequestBody CreateTaskDto taskDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal PersonDto personDto // Added to get the current user
     ) {
         Long userId = personDto.getPersonId();
-        return ResponseEntity.ok(taskService.updateTask(taskId, taskDetails, userId));
+        // If-Match takes precedence over a version in the body; "*" only requires that the task exists
+        if (ifMatch != null && !ifMatch.trim().equals("*")) {
+            TaskVersionRow current = taskService.getTaskVersion(taskId);
+            if (!ETags.matchesStrong(ifMatch, ETags.task(taskId, current.getVersion(), current.getUsername()))) {
+                throw new PreconditionFailedException("Task " + taskId + " has been changed by someone else. Reload it and try again.");
+            }
+            taskDetails.setVersion(current.getVersion());
+        }
+        TaskDto updated = taskService.updateTask(taskId, taskDetails, userId);
+        return ResponseEntity.ok().eTag(ETags.task(updated)).body(updated);
     }
 
     /**
@@ -0,0 +1,30 @@
+package com.example.tasktrackingsystem.dto;
+
+import java.time.Instant;
+
+/**
+ * Immutable principal produced by a single, verified parse of a JWT.
+ *
+ * @param personId  the person id (token subject)
+ * @param username  the username claim
+ * @param fullName  the full name claim
+ * @param role      the role claim
+ * @param expiresAt the token expiry
+ */
+public record AuthenticatedPerson(
+        Long personId,
+        String username,
+        String fullName,
+        String role,
+        Instant expiresAt
+) {
+
+    /**
+     * Converts to the {@link PersonDto} that controllers receive as {@code @AuthenticationPrincipal}.
+     *
+     * @return a new person dto
+     */
+    public PersonDto toPersonDto() {
+        return new PersonDto(personId, fullName, role, username);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.tasktrackingsystem.dto;
+
+import com.example.tasktrackingsystem.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for moving many tasks to one status. Select tasks either by id or by their current status, not both.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Moves the selected tasks to a target status; select by taskIds or by currentStatus")
+public class BulkStatusUpdateDto {
+    @Schema(description = "IDs of the tasks to move", example = "[1, 2, 3]")
+    @Size(max = 1000, message = "At most 1000 task IDs per request")
+    private List<Long> taskIds;
+
+    @Schema(description = "Move every task currently in this status", example = "IN_PROGRESS")
+    private Status currentStatus;
+
+    @Schema(description = "The status to move the tasks to", example = "COMPLETED")
+    @NotNull(message = "Target status is required")
+    private Status targetStatus;
+}
@@ -0,0 +1,29 @@
+package com.example.tasktrackingsystem.dto;
+
+import com.example.tasktrackingsystem.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk status change.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Which tasks a bulk status change moved and which it left alone")
+public class BulkStatusUpdateResultDto {
+    @Schema(description = "The status the tasks were moved to", example = "COMPLETED")
+    private Status targetStatus;
+
+    @Schema(description = "IDs of the tasks that changed status", example = "[1, 3]")
+    private List<Long> affected;
+
+    @Schema(description = "Requested IDs that did not change: unknown, not yours, or already in the target status", example = "[2]")
+    private List<Long> skipped;
+}
@@ -28,4 +28,7 @@ public class CreateTaskDto {
 
     @Schema(description = "Current status of the task", example = "TO_DO")
     private Status trackingStatus;
+
+    @Schema(description = "On update, the version the change is based on; the update is rejected with 412 if the task has changed since. Ignored on create.", example = "3")
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.tasktrackingsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) listing.
+ *
+ * @param <T> the element type
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A page of results addressed by an opaque continuation cursor")
+public class CursorPage<T> {
+    @Schema(description = "The items on this page")
+    private List<T> content;
+
+    @Schema(description = "Cursor to pass back to fetch the next page; null on the last page", example = "djE6NDI")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page follows", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,63 @@
+package com.example.tasktrackingsystem.dto;
+
+import com.example.tasktrackingsystem.model.JobStatus;
+import com.example.tasktrackingsystem.model.JobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * DTO for a background job and its progress.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A background job; poll until status is SUCCEEDED, FAILED or CANCELLED")
+public class JobDto {
+    @Schema(description = "Unique identifier of the job", example = "12")
+    private Long id;
+
+    @Schema(description = "What the job does", example = "TRANSITION_TASKS")
+    private JobType type;
+
+    @Schema(description = "Lifecycle state", example = "RUNNING")
+    private JobStatus status;
+
+    @Schema(description = "ID of the admin who submitted the job", example = "1")
+    private Long requestedBy;
+
+    @Schema(description = "What the job works on", example = "IN_PROGRESS -> COMPLETED, all owners")
+    private String parameters;
+
+    @Schema(description = "Units of work done so far, e.g. tasks moved", example = "4000")
+    private long progress;
+
+    @Schema(description = "Units of work in all, if known", example = "10000")
+    private Long total;
+
+    @Schema(description = "What the job did, once finished", example = "Moved 10000 tasks to COMPLETED")
+    private String summary;
+
+    @Schema(description = "Why the job failed, if it did")
+    private String error;
+
+    @Schema(description = "Whether a result file can be downloaded from the result endpoint", example = "false")
+    private boolean resultAvailable;
+
+    @Schema(description = "Whether cancellation was requested while the job was running", example = "false")
+    private boolean cancelRequested;
+
+    @Schema(description = "When the job was submitted")
+    private Instant createdAt;
+
+    @Schema(description = "When a worker picked the job up")
+    private Instant startedAt;
+
+    @Schema(description = "When the job finished")
+    private Instant finishedAt;
+}
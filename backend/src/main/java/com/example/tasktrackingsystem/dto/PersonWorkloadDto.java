@@ -0,0 +1,32 @@
+package com.example.tasktrackingsystem.dto;
+
+import com.example.tasktrackingsystem.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO for a person together with their task counts.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A user and how many tasks they have in each status")
+public class PersonWorkloadDto {
+    @Schema(description = "The user")
+    private PersonDto person;
+
+    @Schema(description = "Task count for every status", example = "{\"TO_DO\": 3, \"IN_PROGRESS\": 1, \"COMPLETED\": 7}")
+    private Map<Status, Long> byStatus;
+
+    @Schema(description = "Tasks that are not completed yet", example = "4")
+    private long open;
+
+    @Schema(description = "Sum over all statuses", example = "11")
+    private long total;
+}
@@ -33,4 +33,7 @@ public class TaskDto {
 
     @Schema(description = "The username of the task owner", example = "john_doe") // Add this
     private String username;
+
+    @Schema(description = "Row version, incremented on every change", example = "3")
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.tasktrackingsystem.dto;
+
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO pushed to task event stream subscribers.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A task change pushed over the event stream")
+public class TaskEventDto {
+    @Schema(description = "What happened to the task", example = "UPDATED")
+    private TaskChangedEvent.Type type;
+
+    @Schema(description = "ID of the changed task", example = "1")
+    private Long taskId;
+
+    @Schema(description = "The task after the change, or as it was before it was deleted")
+    private TaskDto task;
+}
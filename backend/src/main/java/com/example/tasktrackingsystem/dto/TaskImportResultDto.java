@@ -0,0 +1,37 @@
+package com.example.tasktrackingsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO summarising a bulk task import.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk task import with one entry per row read")
+public class TaskImportResultDto {
+    @Schema(description = "Rows read from the request body", example = "1000")
+    private int received;
+
+    @Schema(description = "Rows inserted", example = "998")
+    private int created;
+
+    @Schema(description = "Rows skipped because they could not be parsed or failed validation", example = "2")
+    private int rejected;
+
+    @Schema(description = "Valid rows lost because their chunk could not be written", example = "0")
+    private int failed;
+
+    @Schema(description = "Set when reading stopped early, e.g. malformed JSON or the row limit; rows before it are kept")
+    private String error;
+
+    @Schema(description = "Per-row outcomes in request order")
+    private List<TaskImportRowDto> rows;
+}
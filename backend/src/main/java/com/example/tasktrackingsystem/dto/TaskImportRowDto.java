@@ -0,0 +1,45 @@
+package com.example.tasktrackingsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for the outcome of one row of a bulk task import.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one imported row")
+public class TaskImportRowDto {
+
+    /**
+     * Row was inserted.
+     */
+    public static final String CREATED = "CREATED";
+
+    /**
+     * Row failed parsing or validation and was skipped.
+     */
+    public static final String REJECTED = "REJECTED";
+
+    /**
+     * Row was valid but its chunk could not be written.
+     */
+    public static final String FAILED = "FAILED";
+
+    @Schema(description = "Zero-based position of the row in the request body", example = "0")
+    private int row;
+
+    @Schema(description = "CREATED, REJECTED or FAILED", example = "CREATED")
+    private String status;
+
+    @Schema(description = "ID of the created task, when created", example = "101")
+    private Long id;
+
+    @Schema(description = "Why the row was not created", example = "title: Title is required")
+    private String error;
+}
@@ -0,0 +1,23 @@
+package com.example.tasktrackingsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for one ranked full-text search result.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A task matching a search query together with its relevance score")
+public class TaskSearchHitDto {
+    @Schema(description = "The matching task")
+    private TaskDto task;
+
+    @Schema(description = "BM25 relevance score; higher is a better match", example = "3.41")
+    private double score;
+}
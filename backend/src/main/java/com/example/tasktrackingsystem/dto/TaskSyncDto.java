@@ -0,0 +1,31 @@
+package com.example.tasktrackingsystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for one batch of a delta sync.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tasks created, updated or deleted after the client's watermark")
+public class TaskSyncDto {
+    @Schema(description = "Tasks created or updated since the watermark, in their current state")
+    private List<TaskDto> changed;
+
+    @Schema(description = "IDs of tasks deleted since the watermark")
+    private List<Long> deleted;
+
+    @Schema(description = "Watermark to send on the next sync", example = "dzE6NDI6MTc")
+    private String watermark;
+
+    @Schema(description = "Whether more changes are waiting; sync again right away with the new watermark", example = "false")
+    private boolean hasMore;
+}
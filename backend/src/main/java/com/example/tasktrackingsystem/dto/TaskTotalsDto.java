@@ -0,0 +1,26 @@
+package com.example.tasktrackingsystem.dto;
+
+import com.example.tasktrackingsystem.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO for task counts per status.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of tasks per tracking status")
+public class TaskTotalsDto {
+    @Schema(description = "Task count for every status", example = "{\"TO_DO\": 3, \"IN_PROGRESS\": 1, \"COMPLETED\": 7}")
+    private Map<Status, Long> byStatus;
+
+    @Schema(description = "Sum over all statuses", example = "11")
+    private long total;
+}
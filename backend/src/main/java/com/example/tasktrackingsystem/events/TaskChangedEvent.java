@@ -0,0 +1,72 @@
+package com.example.tasktrackingsystem.events;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+
+/**
+ * Published by {@link com.example.tasktrackingsystem.service.TaskService} whenever a task is created, updated
+ * or deleted. Listeners that keep in-memory views of the tasks table consume it after the transaction commits.
+ *
+ * @param type   what happened
+ * @param before the task before the change, {@code null} for {@link Type#CREATED}
+ * @param after  the task after the change, {@code null} for {@link Type#DELETED}
+ */
+public record TaskChangedEvent(Type type, TaskDto before, TaskDto after) {
+
+    /**
+     * The kind of change.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Created task changed event.
+     *
+     * @param after the new task
+     * @return the task changed event
+     */
+    public static TaskChangedEvent created(TaskDto after) {
+        return new TaskChangedEvent(Type.CREATED, null, after);
+    }
+
+    /**
+     * Updated task changed event.
+     *
+     * @param before the task before the update
+     * @param after  the task after the update
+     * @return the task changed event
+     */
+    public static TaskChangedEvent updated(TaskDto before, TaskDto after) {
+        return new TaskChangedEvent(Type.UPDATED, before, after);
+    }
+
+    /**
+     * Deleted task changed event.
+     *
+     * @param before the deleted task
+     * @return the task changed event
+     */
+    public static TaskChangedEvent deleted(TaskDto before) {
+        return new TaskChangedEvent(Type.DELETED, before, null);
+    }
+
+    /**
+     * Task id long.
+     *
+     * @return the id of the changed task
+     */
+    public Long taskId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    /**
+     * Owner id long.
+     *
+     * @return the id of the task owner
+     */
+    public Long ownerId() {
+        return after != null ? after.getUserId() : before.getUserId();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.tasktrackingsystem.exceptions;
+
+public class ExportBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ExportBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.tasktrackingsystem.exceptions;
+
+public class JobNotFoundException extends RuntimeException {
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
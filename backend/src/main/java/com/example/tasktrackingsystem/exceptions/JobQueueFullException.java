@@ -0,0 +1,14 @@
+package com.example.tasktrackingsystem.exceptions;
+
+public class JobQueueFullException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public JobQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
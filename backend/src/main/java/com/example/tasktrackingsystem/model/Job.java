@@ -0,0 +1,69 @@
+package com.example.tasktrackingsystem.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A background job and its progress. State changes are made with conditional updates in
+ * {@link com.example.tasktrackingsystem.repository.JobRepository}, so a cancel and a worker never overwrite each other.
+ */
+@Entity
+@Table(name = "jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    @Enumerated(EnumType.STRING)
+    private JobType type;
+
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private JobStatus status = JobStatus.QUEUED;
+
+    // The admin who submitted the job
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    // What the job works on, for display only; the work itself is captured when the job is submitted
+    @Column(length = 1000)
+    private String parameters;
+
+    // Units of work done so far, e.g. tasks moved; total is null until known
+    @Column(nullable = false)
+    private long progress;
+
+    private Long total;
+
+    @Column(length = 1000)
+    private String summary;
+
+    @Column(length = 1000)
+    private String error;
+
+    // File name of the downloadable result inside tasks.jobs.result-dir, if the job produces one
+    @Column(name = "result_file")
+    private String resultFile;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
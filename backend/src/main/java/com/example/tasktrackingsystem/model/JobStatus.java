@@ -0,0 +1,12 @@
+package com.example.tasktrackingsystem.model;
+
+/**
+ * Lifecycle of a background job. {@code QUEUED} and {@code RUNNING} are the only unfinished states.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED
+}
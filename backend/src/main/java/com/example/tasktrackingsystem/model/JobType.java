@@ -0,0 +1,11 @@
+package com.example.tasktrackingsystem.model;
+
+/**
+ * The kinds of background job.
+ */
+public enum JobType {
+    EXPORT_TASKS,
+    TRANSITION_TASKS,
+    DELETE_PERSON,
+    REBUILD_INDEXES
+}
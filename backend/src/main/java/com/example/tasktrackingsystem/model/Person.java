@@ -18,7 +18,9 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Person {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "person_ids")
+    @TableGenerator(name = "person_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "persons", allocationSize = 50)
     private Long personId;
 
     @Size(min = 8, max = 100, message = "Full name must be a minimum of 8 - 100 characters only.")
@@ -36,5 +38,9 @@ public class Person {
     @Size(min = 8, message = "Password must be a minimum of 8 characters.")
     @Column(name = "password", nullable = false)
     private String password;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
 
@@ -14,8 +14,11 @@ import lombok.*;
 @Builder
 public class Task {
 
+    // Ids are handed out in blocks from id_generators so inserts can be batched (IDENTITY forces one round trip per row)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_ids")
+    @TableGenerator(name = "task_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "tasks", allocationSize = 100)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -35,4 +38,13 @@ public class Task {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "person_id", nullable = false)
     private Person person;
+
+    // Incremented on every update; the ETag of a task is derived from it
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Change sequence number of the last write, from ChangeSequence; delta sync reads tasks in this order
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.tasktrackingsystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Marker left behind by a deleted task, so delta sync can report the deletion.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    // The id of the deleted task; task ids are never reused
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "person_id", nullable = false)
+    private Long personId;
+
+    // The change sequence number of the delete
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+}
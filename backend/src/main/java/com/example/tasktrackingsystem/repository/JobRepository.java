@@ -0,0 +1,121 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Job;
+import com.example.tasktrackingsystem.model.JobStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for {@link Job} entities.
+ * <p>
+ * Every state change is a single conditional UPDATE in its own transaction, so a worker finishing a job and an
+ * admin cancelling it race on the row, not on stale entity copies.
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * Unfinished statuses, as a JPQL list.
+     */
+    String UNFINISHED = "(com.example.tasktrackingsystem.model.JobStatus.QUEUED, com.example.tasktrackingsystem.model.JobStatus.RUNNING)";
+
+    /**
+     * Moves a queued job to running.
+     * @param id The ID of the job.
+     * @param now The start time.
+     * @return 1 if the job was still queued, 0 if it was cancelled meanwhile.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.status = com.example.tasktrackingsystem.model.JobStatus.RUNNING, j.startedAt = :now "
+            + "where j.id = :id and j.status = com.example.tasktrackingsystem.model.JobStatus.QUEUED")
+    int markRunning(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Cancels a job that has not started yet.
+     * @param id The ID of the job.
+     * @param now The finish time.
+     * @return 1 if the job was still queued, otherwise 0.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.status = com.example.tasktrackingsystem.model.JobStatus.CANCELLED, j.finishedAt = :now "
+            + "where j.id = :id and j.status = com.example.tasktrackingsystem.model.JobStatus.QUEUED")
+    int cancelIfQueued(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Records progress of a running job that has not been asked to cancel.
+     * @param id The ID of the job.
+     * @param progress Units of work done so far.
+     * @param total Units of work in all, or {@code null} if unknown.
+     * @return 1 if the job is still running and not cancelled, otherwise 0.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.progress = :progress, j.total = :total where j.id = :id and j.cancelRequested = false "
+            + "and j.status = com.example.tasktrackingsystem.model.JobStatus.RUNNING")
+    int updateProgress(@Param("id") Long id, @Param("progress") long progress, @Param("total") Long total);
+
+    /**
+     * Moves an unfinished job to a final status; a job that already finished keeps its status.
+     * @param id The ID of the job.
+     * @param status The final status.
+     * @param summary What the job did, or {@code null}.
+     * @param error Why the job failed, or {@code null}.
+     * @param resultFile The file name of the downloadable result, or {@code null}.
+     * @param now The finish time.
+     * @return 1 if the job was unfinished, otherwise 0.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.status = :status, j.summary = :summary, j.error = :error, j.resultFile = :resultFile, "
+            + "j.finishedAt = :now where j.id = :id and j.status in " + UNFINISHED)
+    int finish(@Param("id") Long id, @Param("status") JobStatus status, @Param("summary") String summary,
+               @Param("error") String error, @Param("resultFile") String resultFile, @Param("now") Instant now);
+
+    /**
+     * Flags an unfinished job for cancellation.
+     * @param id The ID of the job.
+     * @return 1 if the job was unfinished, otherwise 0.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.cancelRequested = true where j.id = :id and j.status in " + UNFINISHED)
+    int requestCancel(@Param("id") Long id);
+
+    /**
+     * Fails every unfinished job, for jobs whose worker went away with the previous process.
+     * @param error The failure reason.
+     * @param now The finish time.
+     * @return The number of jobs failed.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Job j set j.status = com.example.tasktrackingsystem.model.JobStatus.FAILED, j.error = :error, j.finishedAt = :now "
+            + "where j.status in " + UNFINISHED)
+    int failUnfinished(@Param("error") String error, @Param("now") Instant now);
+
+    /**
+     * Finds the next jobs, newest first, for keyset pagination.
+     * @param beforeId Only jobs with a lower ID ({@link Long#MAX_VALUE} for the first page).
+     * @param limit The maximum number of rows.
+     * @return Jobs ordered by ID, descending.
+     */
+    List<Job> findByIdLessThanOrderByIdDesc(Long beforeId, Limit limit);
+
+    /**
+     * Finds jobs that finished before a cutoff, for the retention purge. Served by the finished_at index.
+     * @param cutoff The cutoff.
+     * @param limit The maximum number of rows.
+     * @return The expired jobs.
+     */
+    List<Job> findByFinishedAtBefore(Instant cutoff, Limit limit);
+}
@@ -1,9 +1,15 @@
 package com.example.tasktrackingsystem.repository;
 
+import com.example.tasktrackingsystem.config.CacheConfig;
 import com.example.tasktrackingsystem.model.Person;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,4 +42,105 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
      * @return the boolean
      */
     boolean existsByUsernameAndPersonIdNot(String username, Long personId);
+
+    /**
+     * Find row by id optional.
+     * <p>
+     * Reads the public columns of a person through the {@link CacheConfig#PERSONS} cache. The cached row is a
+     * read-only projection, so no caller can change what the next one is served; {@code PersonService} evicts it
+     * on every write.
+     *
+     * @param personId the person id
+     * @return the row, or empty if the person does not exist
+     */
+    @Cacheable(cacheNames = CacheConfig.PERSONS, key = "#p0", unless = "#result == null")
+    @Query("select p.personId as personId, p.fullName as fullName, p.role as role, p.username as username "
+            + "from Person p where p.personId = :personId")
+    Optional<PersonRow> findRowById(@Param("personId") Long personId);
+
+    /**
+     * Find versioned by id optional.
+     * <p>
+     * Reads the public columns of a person and their row version in one statement.
+     *
+     * @param personId the person id
+     * @return the row, or empty if the person does not exist
+     */
+    @Query("select p.personId as personId, p.fullName as fullName, p.role as role, p.username as username, "
+            + "p.version as version from Person p where p.personId = :personId")
+    Optional<PersonVersionRow> findVersionedById(@Param("personId") Long personId);
+
+    /**
+     * Finds the next directory rows ordered by username. Served by the unique username index.
+     *
+     * @param prefix        a LIKE pattern of the form {@code escaped-prefix%}, escaped with {@code !}
+     * @param afterUsername the last username already returned ({@code ""} for the first page)
+     * @param limit         the maximum number of rows
+     * @return the rows
+     */
+    @Query("select p.personId as personId, p.fullName as fullName, p.role as role, p.username as username from Person p "
+            + "where p.username like :prefix escape '!' and p.username > :afterUsername order by p.username")
+    List<PersonRow> findDirectoryByUsername(@Param("prefix") String prefix, @Param("afterUsername") String afterUsername, Limit limit);
+
+    /**
+     * Finds the next directory rows ordered by full name, then id. Served by {@code idx_persons_full_name_id}.
+     *
+     * @param prefix        a LIKE pattern of the form {@code escaped-prefix%}, escaped with {@code !}
+     * @param afterFullName the full name of the last row already returned ({@code ""} for the first page)
+     * @param afterId       the id of the last row already returned ({@code 0} for the first page)
+     * @param limit         the maximum number of rows
+     * @return the rows
+     */
+    @Query("select p.personId as personId, p.fullName as fullName, p.role as role, p.username as username from Person p "
+            + "where p.fullName like :prefix escape '!' "
+            + "and (p.fullName > :afterFullName or (p.fullName = :afterFullName and p.personId > :afterId)) "
+            + "order by p.fullName, p.personId")
+    List<PersonRow> findDirectoryByFullName(@Param("prefix") String prefix, @Param("afterFullName") String afterFullName,
+                                            @Param("afterId") Long afterId, Limit limit);
+
+    // Workload listing: every person with their task counts, one grouped statement per keyset page.
+    // Keyset on an aggregate goes in HAVING, ordered by the aggregate descending and person id as the tie-breaker.
+
+    /**
+     * Number of open (TO_DO or IN_PROGRESS) tasks in a workload group.
+     */
+    String OPEN_COUNT = "sum(case when t.trackingStatus in (com.example.tasktrackingsystem.model.Status.TO_DO, "
+            + "com.example.tasktrackingsystem.model.Status.IN_PROGRESS) then 1 else 0 end)";
+
+    /**
+     * Select list and grouping shared by the workload queries; people without tasks count as zero.
+     */
+    String WORKLOAD_SELECT = "select p.personId as personId, p.fullName as fullName, p.role as role, p.username as username, "
+            + "sum(case when t.trackingStatus = com.example.tasktrackingsystem.model.Status.TO_DO then 1 else 0 end) as toDo, "
+            + "sum(case when t.trackingStatus = com.example.tasktrackingsystem.model.Status.IN_PROGRESS then 1 else 0 end) as inProgress, "
+            + "sum(case when t.trackingStatus = com.example.tasktrackingsystem.model.Status.COMPLETED then 1 else 0 end) as completed, "
+            + OPEN_COUNT + " as open, count(t.id) as total "
+            + "from Person p left join Task t on t.person = p "
+            + "group by p.personId, p.fullName, p.role, p.username ";
+
+    /**
+     * Finds the next people ordered by total task count, highest first.
+     *
+     * @param afterTotal the total of the last row already returned ({@link Long#MAX_VALUE} for the first page)
+     * @param afterId    the id of the last row already returned ({@code 0} for the first page)
+     * @param limit      the maximum number of rows
+     * @return the rows
+     */
+    @Query(WORKLOAD_SELECT
+            + "having count(t.id) < :afterTotal or (count(t.id) = :afterTotal and p.personId > :afterId) "
+            + "order by count(t.id) desc, p.personId")
+    List<PersonWorkloadRow> findWorkloadByTotal(@Param("afterTotal") long afterTotal, @Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Finds the next people ordered by open task count, highest first.
+     *
+     * @param afterOpen the open count of the last row already returned ({@link Long#MAX_VALUE} for the first page)
+     * @param afterId   the id of the last row already returned ({@code 0} for the first page)
+     * @param limit     the maximum number of rows
+     * @return the rows
+     */
+    @Query(WORKLOAD_SELECT
+            + "having " + OPEN_COUNT + " < :afterOpen or (" + OPEN_COUNT + " = :afterOpen and p.personId > :afterId) "
+            + "order by " + OPEN_COUNT + " desc, p.personId")
+    List<PersonWorkloadRow> findWorkloadByOpen(@Param("afterOpen") long afterOpen, @Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,38 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Role;
+
+/**
+ * Projection of the public columns of a person, used by the user directory so listings never load entities
+ * (or password hashes).
+ */
+public interface PersonRow {
+
+    /**
+     * Gets person id.
+     *
+     * @return the person id
+     */
+    Long getPersonId();
+
+    /**
+     * Gets full name.
+     *
+     * @return the full name
+     */
+    String getFullName();
+
+    /**
+     * Gets role.
+     *
+     * @return the role
+     */
+    Role getRole();
+
+    /**
+     * Gets username.
+     *
+     * @return the username
+     */
+    String getUsername();
+}
@@ -0,0 +1,30 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Status;
+
+/**
+ * Projection for grouped {@code count(*)} queries by owner and tracking status.
+ */
+public interface PersonStatusCount {
+
+    /**
+     * Gets person id.
+     *
+     * @return the owner's person id
+     */
+    Long getPersonId();
+
+    /**
+     * Gets status.
+     *
+     * @return the status
+     */
+    Status getStatus();
+
+    /**
+     * Gets total.
+     *
+     * @return the number of the owner's tasks with that status
+     */
+    long getTotal();
+}
@@ -0,0 +1,14 @@
+package com.example.tasktrackingsystem.repository;
+
+/**
+ * Projection of the public columns of a person together with the row version they were read at.
+ */
+public interface PersonVersionRow extends PersonRow {
+
+    /**
+     * Gets version.
+     *
+     * @return the row version
+     */
+    Long getVersion();
+}
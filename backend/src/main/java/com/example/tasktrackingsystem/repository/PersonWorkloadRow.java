@@ -0,0 +1,72 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Role;
+
+/**
+ * Projection of a person with their task counts, produced by one grouped query over persons and tasks.
+ */
+public interface PersonWorkloadRow {
+
+    /**
+     * Gets person id.
+     *
+     * @return the person id
+     */
+    Long getPersonId();
+
+    /**
+     * Gets full name.
+     *
+     * @return the full name
+     */
+    String getFullName();
+
+    /**
+     * Gets role.
+     *
+     * @return the role
+     */
+    Role getRole();
+
+    /**
+     * Gets username.
+     *
+     * @return the username
+     */
+    String getUsername();
+
+    /**
+     * Gets to do.
+     *
+     * @return the number of TO_DO tasks
+     */
+    long getToDo();
+
+    /**
+     * Gets in progress.
+     *
+     * @return the number of IN_PROGRESS tasks
+     */
+    long getInProgress();
+
+    /**
+     * Gets completed.
+     *
+     * @return the number of COMPLETED tasks
+     */
+    long getCompleted();
+
+    /**
+     * Gets open.
+     *
+     * @return the number of tasks not yet completed
+     */
+    long getOpen();
+
+    /**
+     * Gets total.
+     *
+     * @return the number of tasks
+     */
+    long getTotal();
+}
@@ -0,0 +1,23 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Status;
+
+/**
+ * Projection for grouped {@code count(*)} queries by tracking status.
+ */
+public interface StatusCount {
+
+    /**
+     * Gets status.
+     *
+     * @return the status
+     */
+    Status getStatus();
+
+    /**
+     * Gets total.
+     *
+     * @return the number of tasks with that status
+     */
+    long getTotal();
+}
@@ -0,0 +1,65 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Status;
+
+/**
+ * Projection of a task together with the change sequence number of its last write, for delta sync.
+ */
+public interface TaskChangeRow {
+
+    /**
+     * Gets id.
+     *
+     * @return the task id
+     */
+    Long getId();
+
+    /**
+     * Gets title.
+     *
+     * @return the title
+     */
+    String getTitle();
+
+    /**
+     * Gets description.
+     *
+     * @return the description
+     */
+    String getDescription();
+
+    /**
+     * Gets tracking status.
+     *
+     * @return the tracking status
+     */
+    Status getTrackingStatus();
+
+    /**
+     * Gets user id.
+     *
+     * @return the owner's person id
+     */
+    Long getUserId();
+
+    /**
+     * Gets username.
+     *
+     * @return the owner's username
+     */
+    String getUsername();
+
+    /**
+     * Gets version.
+     *
+     * @return the row version
+     */
+    Long getVersion();
+
+    /**
+     * Gets change seq.
+     *
+     * @return the change sequence number of the last write
+     */
+    long getChangeSeq();
+}
@@ -0,0 +1,42 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Status;
+
+import java.util.Set;
+
+/**
+ * Filter for the {@link TaskQueryRepository} finders. Every component is optional; {@code null} or empty means "any".
+ *
+ * @param ownerId  only tasks owned by this person
+ * @param statuses only tasks in one of these statuses
+ * @param title    only tasks whose title contains this text, ignoring case
+ */
+public record TaskQuery(Long ownerId, Set<Status> statuses, String title) {
+
+    /**
+     * A filter matching every task.
+     */
+    public static final TaskQuery ALL = new TaskQuery(null, null, null);
+
+    /**
+     * Owned by task query.
+     *
+     * @param ownerId the owner id
+     * @return a filter matching one owner's tasks
+     */
+    public static TaskQuery ownedBy(Long ownerId) {
+        return new TaskQuery(ownerId, null, null);
+    }
+
+    /**
+     * Of task query.
+     *
+     * @param ownerId the owner id, may be {@code null}
+     * @param status  the status, may be {@code null}
+     * @param title   the title substring, may be {@code null}
+     * @return a filter with at most one status
+     */
+    public static TaskQuery of(Long ownerId, Status status, String title) {
+        return new TaskQuery(ownerId, status == null ? null : Set.of(status), title);
+    }
+}
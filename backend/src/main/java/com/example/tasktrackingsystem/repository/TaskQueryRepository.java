@@ -0,0 +1,56 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read path for task listings, mixed into {@link TaskRepository}.
+ * <p>
+ * Every method selects the {@link TaskDto} columns straight from a {@code tasks} to {@code persons} join, so a page
+ * costs one select (plus one count for {@link Page}s) no matter how many owners it contains, and no managed entities
+ * are created.
+ */
+public interface TaskQueryRepository {
+
+    /**
+     * Finds one page of tasks matching any combination of owner, status set and title filter, with the total count.
+     * The sort in {@code pageable} is applied as given and {@code id} is appended as a tie-breaker, so paging is stable.
+     *
+     * @param query    the filter
+     * @param pageable the page and sort
+     * @return the page
+     */
+    Page<TaskDto> findPageByQuery(TaskQuery query, Pageable pageable);
+
+    /**
+     * Same as {@link #findPageByQuery} but without the count query; one extra row is read to detect a next page.
+     *
+     * @param query    the filter
+     * @param pageable the page and sort
+     * @return the slice
+     */
+    Slice<TaskDto> findSliceByQuery(TaskQuery query, Pageable pageable);
+
+    /**
+     * Keyset variant: the next tasks after {@code afterId} in id order.
+     *
+     * @param query   the filter
+     * @param afterId the last id already returned ({@code 0} for the first page)
+     * @param limit   the maximum number of rows
+     * @return tasks ordered by id
+     */
+    List<TaskDto> findByQueryAfter(TaskQuery query, long afterId, int limit);
+
+    /**
+     * Finds tasks by id, in no particular order. Unknown ids are skipped.
+     *
+     * @param ids the ids
+     * @return the tasks found
+     */
+    List<TaskDto> findDtosByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,142 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria API implementation of {@link TaskQueryRepository}.
+ * <p>
+ * Predicates are emitted in index column order (owner, status, title) so that each supported shape
+ * lines up with one of the composite indexes created by the Flyway migrations. The title substring
+ * is never an index prefix; it filters the rows the index walk visits.
+ */
+class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TaskDto> findPageByQuery(TaskQuery query, Pageable pageable) {
+        List<TaskDto> content = fetch(query, null, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> total = cb.createQuery(Long.class);
+        Root<Task> counted = total.from(Task.class);
+        total.select(cb.count(counted)).where(predicates(cb, counted, query, null));
+        return new PageImpl<>(content, pageable, entityManager.createQuery(total).getSingleResult());
+    }
+
+    @Override
+    public Slice<TaskDto> findSliceByQuery(TaskQuery query, Pageable pageable) {
+        // Read one extra row to learn whether a next page exists without counting
+        List<TaskDto> content = fetch(query, null, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TaskDto> findByQueryAfter(TaskQuery query, long afterId, int limit) {
+        return fetch(query, afterId, Sort.by("id"), 0, limit);
+    }
+
+    @Override
+    public List<TaskDto> findDtosByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDto> select = cb.createQuery(TaskDto.class);
+        Root<Task> task = select.from(Task.class);
+        select.select(columns(cb, task, task.join("person"))).where(task.get("id").in(ids));
+        return entityManager.createQuery(select).getResultList();
+    }
+
+    private List<TaskDto> fetch(TaskQuery query, Long afterId, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDto> select = cb.createQuery(TaskDto.class);
+        Root<Task> task = select.from(Task.class);
+        select.select(columns(cb, task, task.join("person")))
+                .where(predicates(cb, task, query, afterId))
+                .orderBy(orders(cb, task, sort));
+
+        return entityManager.createQuery(select)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Argument order must match the TaskDto all-args constructor
+    private static CompoundSelection<TaskDto> columns(CriteriaBuilder cb, Root<Task> task, Join<Task, Person> person) {
+        return cb.construct(TaskDto.class,
+                task.get("id"),
+                task.get("title"),
+                task.get("description"),
+                task.get("trackingStatus"),
+                person.get("personId"),
+                person.get("username"),
+                task.get("version"));
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<Task> task, TaskQuery query, Long afterId) {
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (query.ownerId() != null) {
+            predicates.add(cb.equal(task.get("person").get("personId"), query.ownerId()));
+        }
+        if (query.statuses() != null && !query.statuses().isEmpty()) {
+            Path<Object> status = task.get("trackingStatus");
+            predicates.add(query.statuses().size() == 1
+                    ? cb.equal(status, query.statuses().iterator().next())
+                    : status.in(query.statuses()));
+        }
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(task.<Long>get("id"), afterId));
+        }
+        if (query.title() != null && !query.title().isBlank()) {
+            predicates.add(cb.like(cb.lower(task.<String>get("title")), "%" + escape(query.title().toLowerCase(Locale.ROOT)) + "%", LIKE_ESCAPE));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static List<Order> orders(CriteriaBuilder cb, Root<Task> task, Sort sort) {
+        List<Order> orders = new ArrayList<>(2);
+        Sort.Direction tieBreak = Sort.Direction.ASC;
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending() ? cb.asc(task.get(order.getProperty())) : cb.desc(task.get(order.getProperty())));
+            tieBreak = order.getDirection();
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add(tieBreak.isAscending() ? cb.asc(task.get("id")) : cb.desc(task.get("id")));
+        }
+        return orders;
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -2,11 +2,17 @@ package com.example.tasktrackingsystem.repository;
 
 import com.example.tasktrackingsystem.model.Status;
 import com.example.tasktrackingsystem.model.Task;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,41 +20,168 @@ import java.util.Optional;
  * Provides standard CRUD operations and custom queries for task tracking.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
+
+    // List endpoints read through TaskQueryRepository, which projects TaskDto columns in one join query.
+
+    /**
+     * Counts a user's tasks grouped by status.
+     * @param personId The ID of the owner.
+     * @return One row per status that has at least one task.
+     */
+    @Query("select t.trackingStatus as status, count(t) as total from Task t where t.person.personId = :personId group by t.trackingStatus")
+    List<StatusCount> countByStatusForPerson(@Param("personId") Long personId);
 
     /**
-     * Finds all tasks associated with a specific user.
-     * @param personId The ID of the user whose tasks are being retrieved.
-     * @param pageable the pagination information.
-     * @return A list of tasks belonging to the specified user.
+     * Counts all tasks grouped by status.
+     * @return One row per status that has at least one task.
      */
-    Page<Task> findByPersonPersonId(Long personId, Pageable pageable);
+    @Query("select t.trackingStatus as status, count(t) as total from Task t group by t.trackingStatus")
+    List<StatusCount> countByStatus();
 
     /**
-     * Finds tasks by their tracking status.
-     * @param trackingStatus The status string to filter by.
-     * @param pageable the pagination information.
-     * @return A list of tasks matching the given status.
+     * Counts all tasks grouped by owner and status, used to seed and reconcile the in-memory counters.
+     * @return One row per owner and status that has at least one task.
      */
-    Page<Task> findByTrackingStatus(Status trackingStatus, Pageable pageable);
+    @Query("select t.person.personId as personId, t.trackingStatus as status, count(t) as total from Task t "
+            + "group by t.person.personId, t.trackingStatus")
+    List<PersonStatusCount> countByPersonAndStatus();
 
     /**
-     * Finds all tasks for a specific user filtered by status.
+     * Reads only the version and owner of a task, to answer conditional requests without loading it.
+     * @param id The task ID.
+     * @return The version row, or empty if the task does not exist.
+     */
+    @Query("select t.version as version, t.person.username as username from Task t where t.id = :id")
+    Optional<TaskVersionRow> findVersionById(@Param("id") Long id);
+
+    /**
+     * Updates a task only if it is still at the expected version, without taking a lock beforehand.
+     * @param id The task ID.
+     * @param version The version the change is based on.
+     * @param title The new title.
+     * @param description The new description.
+     * @param status The new status.
+     * @param changeSeq The change sequence number of this write.
+     * @return {@code 1} if the task was updated, {@code 0} if it has changed or no longer exists.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.title = :title, t.description = :description, t.trackingStatus = :status, "
+            + "t.version = t.version + 1, t.changeSeq = :changeSeq where t.id = :id and t.version = :version")
+    int updateIfVersion(@Param("id") Long id, @Param("version") Long version, @Param("title") String title,
+                        @Param("description") String description, @Param("status") Status status,
+                        @Param("changeSeq") long changeSeq);
+
+    // Bulk status transitions: lock the rows that will change, then move them with one UPDATE.
+
+    /**
+     * Locks the listed tasks that are not yet in the target status.
+     * @param ids The requested task IDs.
+     * @param personId Only lock tasks of this owner, or {@code null} for any owner.
+     * @param target The target status.
+     * @return The locked tasks with their current status.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id as id, t.trackingStatus as status from Task t where t.id in :ids "
+            + "and (:personId is null or t.person.personId = :personId) and t.trackingStatus <> :target")
+    List<TaskStatusRow> lockForTransitionByIds(@Param("ids") Collection<Long> ids, @Param("personId") Long personId, @Param("target") Status target);
+
+    /**
+     * Locks the first tasks in the given status, in id order.
+     * @param current The status to move away from.
+     * @param personId Only lock tasks of this owner, or {@code null} for any owner.
+     * @param limit The maximum number of rows; callers ask for one more than they accept to detect an oversized selection.
+     * @return The locked tasks with their current status.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id as id, t.trackingStatus as status from Task t where t.trackingStatus = :current "
+            + "and (:personId is null or t.person.personId = :personId) order by t.id")
+    List<TaskStatusRow> lockForTransitionByStatus(@Param("current") Status current, @Param("personId") Long personId, Limit limit);
+
+    /**
+     * Moves the listed tasks to the target status in one statement.
+     * @param ids The task IDs, normally the ones just locked.
+     * @param personId Only update tasks of this owner, or {@code null} for any owner.
+     * @param target The target status.
+     * @param changeSeq The change sequence number of this write.
+     * @return The number of rows updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.trackingStatus = :target, t.version = t.version + 1, t.changeSeq = :changeSeq where t.id in :ids "
+            + "and (:personId is null or t.person.personId = :personId) and t.trackingStatus <> :target")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("personId") Long personId, @Param("target") Status target,
+                     @Param("changeSeq") long changeSeq);
+
+    // Delta sync: keyset on (changeSeq, id), capped at the highest sequence number known to be committed.
+
+    /**
+     * Finds the next changed tasks of one owner after a watermark. Served by the (person, change_seq, id) index.
      * @param personId The ID of the owner.
-     * @param trackingStatus The status to filter.
-     * @param pageable the pagination information.
-     * @return A filtered list of tasks for the user.
+     * @param afterSeq The change sequence number of the watermark.
+     * @param afterId The task ID of the watermark, the tie-breaker within one change sequence number.
+     * @param upToSeq The highest change sequence number that may be returned.
+     * @param limit The maximum number of rows.
+     * @return Tasks ordered by change sequence number, then id.
      */
-    Page<Task> findByPersonPersonIdAndTrackingStatus(Long personId, Status trackingStatus, Pageable pageable);
+    @Query("select t.id as id, t.title as title, t.description as description, t.trackingStatus as trackingStatus, "
+            + "p.personId as userId, p.username as username, t.version as version, t.changeSeq as changeSeq from Task t join t.person p "
+            + "where p.personId = :personId and t.changeSeq <= :upToSeq "
+            + "and (t.changeSeq > :afterSeq or (t.changeSeq = :afterSeq and t.id > :afterId)) order by t.changeSeq, t.id")
+    List<TaskChangeRow> findChangesByOwner(@Param("personId") Long personId, @Param("afterSeq") long afterSeq,
+                                           @Param("afterId") long afterId, @Param("upToSeq") long upToSeq, Limit limit);
 
-    Page<Task> findByTitleContainsIgnoreCase(String queryTitle, Pageable pageable);
+    /**
+     * Finds the next changed tasks of any owner after a watermark. Served by the (change_seq, id) index.
+     * @param afterSeq The change sequence number of the watermark.
+     * @param afterId The task ID of the watermark, the tie-breaker within one change sequence number.
+     * @param upToSeq The highest change sequence number that may be returned.
+     * @param limit The maximum number of rows.
+     * @return Tasks ordered by change sequence number, then id.
+     */
+    @Query("select t.id as id, t.title as title, t.description as description, t.trackingStatus as trackingStatus, "
+            + "p.personId as userId, p.username as username, t.version as version, t.changeSeq as changeSeq from Task t join t.person p "
+            + "where t.changeSeq <= :upToSeq "
+            + "and (t.changeSeq > :afterSeq or (t.changeSeq = :afterSeq and t.id > :afterId)) order by t.changeSeq, t.id")
+    List<TaskChangeRow> findChanges(@Param("afterSeq") long afterSeq, @Param("afterId") long afterId,
+                                    @Param("upToSeq") long upToSeq, Limit limit);
 
-    Page<Task> findByTrackingStatusAndTitleContainsIgnoreCase(Status status, String queryTitle, Pageable pageable);
+    /**
+     * Finds the highest change sequence number of any task, used to seed the in-memory sequence.
+     * @return The highest number, or {@code 0} when there are no tasks.
+     */
+    @Query("select coalesce(max(t.changeSeq), 0) from Task t")
+    long findMaxChangeSeq();
 
+    /**
+     * Finds the next ids of tasks in a status after the given id, used by background jobs to work in chunks.
+     * Served by the (tracking_status, id) index.
+     * @param status The status.
+     * @param personId Only tasks of this owner, or {@code null} for any owner.
+     * @param afterId The last id already returned ({@code 0} for the first batch).
+     * @param limit The maximum number of rows.
+     * @return Task ids in ascending order.
+     */
+    @Query("select t.id from Task t where t.trackingStatus = :status and (:personId is null or t.person.personId = :personId) "
+            + "and t.id > :afterId order by t.id")
+    List<Long> findIdsByStatusAfter(@Param("status") Status status, @Param("personId") Long personId,
+                                    @Param("afterId") long afterId, Limit limit);
 
-    Page<Task> findByPersonPersonIdAndTitleContainsIgnoreCase(Long personId, String queryTitle, Pageable pageable);
+    /**
+     * Finds some ids of one owner's tasks, in no particular order, used to delete them in chunks.
+     * @param personId The ID of the owner.
+     * @param limit The maximum number of rows.
+     * @return Task ids.
+     */
+    @Query("select t.id from Task t where t.person.personId = :personId")
+    List<Long> findIdsByOwner(@Param("personId") Long personId, Limit limit);
 
-    Page<Task> findByPersonPersonIdAndTrackingStatusAndTitleContainsIgnoreCase(Long personId, Status status, String queryTitle, Pageable pageable);
+    /**
+     * Finds the next tasks after the given id, used to (re)build the in-memory indexes in batches.
+     * @param afterId The last id already returned ({@code 0} for the first batch).
+     * @param limit The maximum number of rows.
+     * @return Tasks ordered by id.
+     */
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 
     // TODO: Either make use or delete
     Optional<Task> findFirstByPersonPersonIdAndTitleIgnoreCase(Long personId, String title);
@@ -0,0 +1,23 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Status;
+
+/**
+ * Projection of a task's id and current status, used to lock rows before a bulk status change.
+ */
+public interface TaskStatusRow {
+
+    /**
+     * Gets id.
+     *
+     * @return the task id
+     */
+    Long getId();
+
+    /**
+     * Gets status.
+     *
+     * @return the status before the change
+     */
+    Status getStatus();
+}
@@ -0,0 +1,63 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link TaskTombstone} entities.
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Records a deleted task with one INSERT; {@code save} would first select by the assigned id.
+     * @param taskId The ID of the deleted task.
+     * @param personId The ID of its owner.
+     * @param changeSeq The change sequence number of the delete.
+     * @return The number of rows inserted.
+     */
+    @Modifying
+    @Query("insert into TaskTombstone (taskId, personId, changeSeq) values (:taskId, :personId, :changeSeq)")
+    int insert(@Param("taskId") Long taskId, @Param("personId") Long personId, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Finds the next deletions of one owner's tasks after a watermark. Served by the (person, change_seq, task_id) index.
+     * @param personId The ID of the owner.
+     * @param afterSeq The change sequence number of the watermark.
+     * @param afterId The task ID of the watermark, the tie-breaker within one change sequence number.
+     * @param upToSeq The highest change sequence number that may be returned.
+     * @param limit The maximum number of rows.
+     * @return Tombstones ordered by change sequence number, then task ID.
+     */
+    @Query("select t from TaskTombstone t where t.personId = :personId and t.changeSeq <= :upToSeq "
+            + "and (t.changeSeq > :afterSeq or (t.changeSeq = :afterSeq and t.taskId > :afterId)) order by t.changeSeq, t.taskId")
+    List<TaskTombstone> findChangesByOwner(@Param("personId") Long personId, @Param("afterSeq") long afterSeq,
+                                           @Param("afterId") long afterId, @Param("upToSeq") long upToSeq, Limit limit);
+
+    /**
+     * Finds the next deletions of any task after a watermark. Served by the (change_seq, task_id) index.
+     * @param afterSeq The change sequence number of the watermark.
+     * @param afterId The task ID of the watermark, the tie-breaker within one change sequence number.
+     * @param upToSeq The highest change sequence number that may be returned.
+     * @param limit The maximum number of rows.
+     * @return Tombstones ordered by change sequence number, then task ID.
+     */
+    @Query("select t from TaskTombstone t where t.changeSeq <= :upToSeq "
+            + "and (t.changeSeq > :afterSeq or (t.changeSeq = :afterSeq and t.taskId > :afterId)) order by t.changeSeq, t.taskId")
+    List<TaskTombstone> findChanges(@Param("afterSeq") long afterSeq, @Param("afterId") long afterId,
+                                    @Param("upToSeq") long upToSeq, Limit limit);
+
+    /**
+     * Finds the highest change sequence number of any deletion, used to seed the in-memory sequence.
+     * @return The highest number, or {@code 0} when there are no tombstones.
+     */
+    @Query("select coalesce(max(t.changeSeq), 0) from TaskTombstone t")
+    long findMaxChangeSeq();
+}
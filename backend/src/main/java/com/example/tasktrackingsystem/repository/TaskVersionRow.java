@@ -0,0 +1,21 @@
+package com.example.tasktrackingsystem.repository;
+
+/**
+ * Projection of what a task's entity tag is built from, so revalidation does not load the task.
+ */
+public interface TaskVersionRow {
+
+    /**
+     * Gets version.
+     *
+     * @return the task row version
+     */
+    Long getVersion();
+
+    /**
+     * Gets username.
+     *
+     * @return the owner's username
+     */
+    String getUsername();
+}
@@ -0,0 +1,103 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.example.tasktrackingsystem.repository.TaskTombstoneRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.TreeSet;
+
+/**
+ * Hands out the change sequence numbers that task writes are stamped with, for delta sync.
+ * <p>
+ * Numbers increase monotonically, and one transaction takes a single number however many rows it touches.
+ * Because transactions commit out of order, a number is only safe to sync past once every transaction holding
+ * a lower one has finished; {@link #stable()} is the highest such number. The sequence is seeded from the
+ * highest number in the database at startup, so it survives restarts of this single-instance service. It is
+ * never moved by request input: watermarks only ever carry numbers that reached the database.
+ */
+@Component
+public class ChangeSequence {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+
+    // Guarded by this; a plain lock, the critical sections are a few field updates
+    private long last = -1;
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+
+    /**
+     * Instantiates a new Change sequence.
+     *
+     * @param taskRepository          the task repository
+     * @param taskTombstoneRepository the task tombstone repository
+     */
+    public ChangeSequence(TaskRepository taskRepository, TaskTombstoneRepository taskTombstoneRepository) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+    }
+
+    /**
+     * The number to stamp the current transaction's writes with.
+     * <p>
+     * The first call in a transaction takes a new number; later calls in the same transaction return it again.
+     * The number counts as in flight until the transaction commits or rolls back.
+     *
+     * @return the change sequence number
+     * @throws IllegalStateException if no transaction is active
+     */
+    public long next() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change sequence numbers must be taken inside a transaction");
+        }
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        long seq;
+        synchronized (this) {
+            seed();
+            seq = ++last;
+            inFlight.add(seq);
+        }
+        TransactionSynchronizationManager.bindResource(this, seq);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequence.this);
+                release(seq);
+            }
+        });
+        return seq;
+    }
+
+    /**
+     * The highest number whose writes, and the writes of every lower number, are committed or rolled back.
+     *
+     * @return the highest number a reader can safely sync up to
+     */
+    public synchronized long stable() {
+        seed();
+        return inFlight.isEmpty() ? last : inFlight.first() - 1;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    synchronized void seedOnStartup() {
+        seed();
+    }
+
+    private synchronized void release(long seq) {
+        inFlight.remove(seq);
+    }
+
+    // Caller holds the lock; also covers calls that arrive before the ready event
+    private void seed() {
+        if (last < 0) {
+            last = Math.max(taskRepository.findMaxChangeSeq(), taskTombstoneRepository.findMaxChangeSeq());
+        }
+    }
+}
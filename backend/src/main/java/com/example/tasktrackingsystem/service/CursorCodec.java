@@ -0,0 +1,158 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the last-seen key of a keyset page into an opaque, URL-safe cursor and back.
+ * <p>
+ * Id-only cursors serve listings ordered by id; keyed cursors carry a sort value plus the id as a tie-breaker.
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "v1:";
+    private static final String KEYED_VERSION = "k1:";
+    private static final String WATERMARK_VERSION = "w1:";
+
+    /**
+     * The position after the last row of a page ordered by a text column and id.
+     *
+     * @param value the sort value of the last row ({@code ""} for the first page)
+     * @param id    the id of the last row ({@code 0} for the first page)
+     */
+    public record Key(String value, long id) {
+
+        /**
+         * Before every row.
+         */
+        public static final Key FIRST = new Key("", 0L);
+    }
+
+    /**
+     * The position after the last change a delta sync client has seen.
+     *
+     * @param seq the change sequence number of the last change ({@code 0} before any change)
+     * @param id  the task id of the last change, the tie-breaker within one sequence number
+     */
+    public record Watermark(long seq, long id) {
+
+        /**
+         * Before every change.
+         */
+        public static final Watermark FIRST = new Watermark(0L, 0L);
+    }
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encode string.
+     *
+     * @param lastId the id of the last row on the page
+     * @return the cursor
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((VERSION + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode long.
+     *
+     * @param cursor the cursor, may be {@code null} or blank for the first page
+     * @return the id to seek after ({@code 0} for the first page)
+     * @throws InvalidInputException if the cursor was not produced by {@link #encode(long)}
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(VERSION)) {
+                throw new InvalidInputException("Invalid cursor.");
+            }
+            return Long.parseLong(raw.substring(VERSION.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * Encode string.
+     *
+     * @param value  the sort value of the last row on the page
+     * @param lastId the id of the last row on the page
+     * @return the cursor
+     */
+    public static String encode(String value, long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((KEYED_VERSION + lastId + ":" + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode key.
+     *
+     * @param cursor the cursor, may be {@code null} or blank for the first page
+     * @return the key to seek after ({@link Key#FIRST} for the first page)
+     * @throws InvalidInputException if the cursor was not produced by {@link #encode(String, long)}
+     */
+    public static Key decodeKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Key.FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':', KEYED_VERSION.length());
+            if (!raw.startsWith(KEYED_VERSION) || separator < 0) {
+                throw new InvalidInputException("Invalid cursor.");
+            }
+            return new Key(raw.substring(separator + 1), Long.parseLong(raw.substring(KEYED_VERSION.length(), separator)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * Encode watermark string.
+     *
+     * @param watermark the position after the last change returned
+     * @return the opaque watermark
+     */
+    public static String encodeWatermark(Watermark watermark) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((WATERMARK_VERSION + watermark.seq() + ":" + watermark.id()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode watermark.
+     *
+     * @param watermark the watermark, may be {@code null} or blank for a full sync
+     * @return the position to sync after ({@link Watermark#FIRST} for a full sync)
+     * @throws InvalidInputException if the watermark was not produced by {@link #encodeWatermark(Watermark)}
+     */
+    public static Watermark decodeWatermark(String watermark) {
+        if (watermark == null || watermark.isBlank()) {
+            return Watermark.FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':', WATERMARK_VERSION.length());
+            if (!raw.startsWith(WATERMARK_VERSION) || separator < 0) {
+                throw new InvalidInputException("Invalid watermark.");
+            }
+            return new Watermark(Long.parseLong(raw.substring(WATERMARK_VERSION.length(), separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid watermark.");
+        }
+    }
+}
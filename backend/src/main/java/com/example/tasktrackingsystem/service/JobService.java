@@ -0,0 +1,466 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateResultDto;
+import com.example.tasktrackingsystem.dto.CursorPage;
+import com.example.tasktrackingsystem.dto.JobDto;
+import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.exceptions.JobNotFoundException;
+import com.example.tasktrackingsystem.exceptions.JobQueueFullException;
+import com.example.tasktrackingsystem.model.Job;
+import com.example.tasktrackingsystem.model.JobStatus;
+import com.example.tasktrackingsystem.model.JobType;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.JobRepository;
+import com.example.tasktrackingsystem.repository.StatusCount;
+import com.example.tasktrackingsystem.repository.TaskQuery;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs admin operations that are too long for one request as background jobs.
+ * <p>
+ * Jobs run on a dedicated, fixed-size pool with a bounded queue, so they never take request threads and a burst of
+ * submissions is refused with a 503 instead of piling up. Each job works in chunks, every chunk in its own transaction,
+ * and records its progress in the {@code jobs} table after each one; that is also where a requested cancellation is
+ * noticed. Work already committed stays committed when a job is cancelled or fails. Jobs do not survive a restart:
+ * any still unfinished at startup are marked failed.
+ */
+@Service
+public class JobService implements MeterBinder, DisposableBean {
+
+    private final JobRepository jobRepository;
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final PersonService personService;
+    private final TaskExportService taskExportService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskTitlePrefixIndex taskTitlePrefixIndex;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final Path resultDir;
+    private final Duration retention;
+    private final long retryAfterSeconds;
+
+    /**
+     * Instantiates a new Job service.
+     *
+     * @param jobRepository        the job repository
+     * @param taskRepository       the task repository
+     * @param taskService          the task service
+     * @param personService        the person service
+     * @param taskExportService    the task export service
+     * @param taskSearchIndex      the task search index
+     * @param taskTitlePrefixIndex the task title prefix index
+     * @param threads              jobs running at once
+     * @param queueCapacity        jobs waiting for a worker
+     * @param chunkSize            rows per chunk transaction
+     * @param resultDir            where result files are written
+     * @param retention            how long finished jobs and their files are kept
+     * @param retryAfterSeconds    hint returned when the queue is full
+     */
+    public JobService(
+            JobRepository jobRepository,
+            TaskRepository taskRepository,
+            TaskService taskService,
+            PersonService personService,
+            TaskExportService taskExportService,
+            TaskSearchIndex taskSearchIndex,
+            TaskTitlePrefixIndex taskTitlePrefixIndex,
+            @Value("${tasks.jobs.threads:2}") int threads,
+            @Value("${tasks.jobs.queue-capacity:32}") int queueCapacity,
+            @Value("${tasks.jobs.chunk-size:1000}") int chunkSize,
+            @Value("${tasks.jobs.result-dir:${java.io.tmpdir}/task-jobs}") String resultDir,
+            @Value("${tasks.jobs.retention:P7D}") Duration retention,
+            @Value("${tasks.jobs.retry-after-seconds:30}") long retryAfterSeconds
+    ) {
+        this.jobRepository = jobRepository;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.personService = personService;
+        this.taskExportService = taskExportService;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskTitlePrefixIndex = taskTitlePrefixIndex;
+        this.chunkSize = chunkSize;
+        this.resultDir = Path.of(resultDir);
+        this.retention = retention;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("job-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Submits an export of every task matching a query to a downloadable file.
+     *
+     * @param requestedBy the submitting admin
+     * @param query       the filter
+     * @param format      the file format
+     * @return the queued job
+     */
+    public JobDto exportTasks(Long requestedBy, TaskQuery query, TaskExportService.Format format) {
+        String parameters = format.getExtension() + ", " + describe(query);
+        return submit(JobType.EXPORT_TASKS, requestedBy, parameters, context -> {
+            Files.createDirectories(resultDir);
+            String fileName = "job-" + context.jobId() + "." + format.getExtension();
+            Path file = resultDir.resolve(fileName);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                // Checkpoint after every batch read, so a cancel stops the export midway rather than at the end
+                long written = taskExportService.export(query, format, out, done -> context.checkpoint(done, null));
+                context.checkpoint(written, written);
+                return new Outcome("Exported " + written + " tasks", fileName);
+            } catch (Exception e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Submits a status change of the selected tasks, applied a chunk at a time.
+     *
+     * @param requestedBy the submitting admin
+     * @param ownerId     restrict to this owner, or {@code null} for all owners
+     * @param request     the selection and target status
+     * @return the queued job
+     * @throws InvalidInputException if the selection is missing or ambiguous
+     */
+    public JobDto transitionTasks(Long requestedBy, Long ownerId, BulkStatusUpdateDto request) {
+        boolean byIds = request.getTaskIds() != null && !request.getTaskIds().isEmpty();
+        if (byIds == (request.getCurrentStatus() != null)) {
+            throw new InvalidInputException("Select tasks either by taskIds or by currentStatus.");
+        }
+
+        Status target = request.getTargetStatus();
+        String parameters = (byIds ? request.getTaskIds().size() + " selected tasks" : request.getCurrentStatus().name())
+                + " -> " + target + ", " + (ownerId != null ? "owner " + ownerId : "all owners");
+        List<Long> selected = byIds ? List.copyOf(new LinkedHashSet<>(request.getTaskIds())) : List.of();
+        Status current = request.getCurrentStatus();
+
+        return submit(JobType.TRANSITION_TASKS, requestedBy, parameters, context -> {
+            long moved = 0;
+            long skipped = 0;
+            long done = 0;
+            if (byIds) {
+                for (int from = 0; from < selected.size(); from += chunkSize) {
+                    List<Long> chunk = selected.subList(from, Math.min(from + chunkSize, selected.size()));
+                    BulkStatusUpdateResultDto result = taskService.transitionTasks(ownerId, new BulkStatusUpdateDto(chunk, null, target));
+                    moved += result.getAffected().size();
+                    skipped += result.getSkipped().size();
+                    done += chunk.size();
+                    context.checkpoint(done, (long) selected.size());
+                }
+            } else if (current != target) {
+                long total = countInStatus(current, ownerId);
+                long afterId = 0;
+                List<Long> chunk;
+                while (!(chunk = taskRepository.findIdsByStatusAfter(current, ownerId, afterId, Limit.of(chunkSize))).isEmpty()) {
+                    // Tasks that changed status since the chunk was read come back as skipped
+                    BulkStatusUpdateResultDto result = taskService.transitionTasks(ownerId, new BulkStatusUpdateDto(chunk, null, target));
+                    moved += result.getAffected().size();
+                    skipped += result.getSkipped().size();
+                    done += chunk.size();
+                    afterId = chunk.getLast();
+                    context.checkpoint(done, Math.max(total, done));
+                }
+            }
+            return new Outcome("Moved " + moved + " tasks to " + target + (skipped > 0 ? ", skipped " + skipped : ""), null);
+        });
+    }
+
+    /**
+     * Submits the deletion of a user together with all of their tasks.
+     * Tasks are deleted a chunk at a time; the user row goes last, once no task refers to it.
+     *
+     * @param requestedBy the submitting admin
+     * @param personId    the user to delete
+     * @return the queued job
+     * @throws com.example.tasktrackingsystem.exceptions.PersonNotFoundException if the user does not exist
+     */
+    public JobDto deletePerson(Long requestedBy, Long personId) {
+        PersonDto person = personService.findById(personId);
+        String parameters = "user " + personId + " (" + person.getUsername() + ")";
+
+        return submit(JobType.DELETE_PERSON, requestedBy, parameters, context -> {
+            long total = countInStatus(null, personId);
+            long deleted = 0;
+            int chunk;
+            while ((chunk = taskService.deleteTasksOf(personId, chunkSize)) > 0) {
+                deleted += chunk;
+                context.checkpoint(deleted, Math.max(total, deleted));
+            }
+            personService.delete(personId);
+            return new Outcome("Deleted user " + person.getUsername() + " and " + deleted + " tasks", null);
+        });
+    }
+
+    /**
+     * Submits a rebuild of the in-memory search and title suggestion indexes from the database.
+     *
+     * @param requestedBy the submitting admin
+     * @return the queued job
+     */
+    public JobDto rebuildIndexes(Long requestedBy) {
+        return submit(JobType.REBUILD_INDEXES, requestedBy, "search, title suggestions", context -> {
+            taskSearchIndex.rebuild();
+            context.checkpoint(1, 2L);
+            taskTitlePrefixIndex.rebuild();
+            context.checkpoint(2, 2L);
+            return new Outcome("Indexed " + taskSearchIndex.size() + " tasks", null);
+        });
+    }
+
+    /**
+     * Gets a job.
+     *
+     * @param id the job id
+     * @return the job
+     * @throws JobNotFoundException if no job has the id
+     */
+    public JobDto getJob(Long id) {
+        return convertToDto(find(id));
+    }
+
+    /**
+     * Lists jobs, newest first.
+     *
+     * @param cursor the cursor from the previous page, or {@code null} for the first page
+     * @param size   the page size
+     * @return the page of jobs
+     */
+    public CursorPage<JobDto> getJobs(String cursor, int size) {
+        long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : CursorCodec.decode(cursor);
+        List<Job> rows = jobRepository.findByIdLessThanOrderByIdDesc(beforeId, Limit.of(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<Job> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(content.getLast().getId()) : null;
+        return new CursorPage<>(content.stream().map(JobService::convertToDto).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * Cancels a job. A queued job is cancelled at once; a running job stops at its next checkpoint, keeping the
+     * chunks it already committed. Cancelling a finished job changes nothing.
+     *
+     * @param id the job id
+     * @return the job after the request
+     * @throws JobNotFoundException if no job has the id
+     */
+    public JobDto cancel(Long id) {
+        find(id);
+        if (jobRepository.cancelIfQueued(id, Instant.now()) == 0) {
+            jobRepository.requestCancel(id);
+        }
+        return getJob(id);
+    }
+
+    /**
+     * Result file of a finished job.
+     *
+     * @param id the job id
+     * @return the path of the file
+     * @throws JobNotFoundException  if no job has the id
+     * @throws InvalidInputException if the job has no downloadable result
+     */
+    public Path getResultFile(Long id) {
+        Job job = find(id);
+        if (job.getStatus() != JobStatus.SUCCEEDED || job.getResultFile() == null || !Files.exists(resultDir.resolve(job.getResultFile()))) {
+            throw new InvalidInputException("Job " + id + " has no downloadable result.");
+        }
+        return resultDir.resolve(job.getResultFile());
+    }
+
+    /**
+     * Queue depth int.
+     *
+     * @return the number of jobs waiting for a worker
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("jobs.queue", executor, e -> e.getQueue().size())
+                .description("Jobs waiting for a worker")
+                .register(registry);
+        Gauge.builder("jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Jobs currently running")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void failInterruptedJobs() {
+        jobRepository.failUnfinished("Interrupted by a restart.", Instant.now());
+    }
+
+    // Deletes finished jobs past the retention period, with their result files
+    @Scheduled(fixedDelayString = "${tasks.jobs.purge-interval:PT1H}")
+    void purgeExpired() throws IOException {
+        List<Job> expired;
+        do {
+            expired = jobRepository.findByFinishedAtBefore(Instant.now().minus(retention), Limit.of(500));
+            for (Job job : expired) {
+                if (job.getResultFile() != null) {
+                    Files.deleteIfExists(resultDir.resolve(job.getResultFile()));
+                }
+            }
+            jobRepository.deleteAllInBatch(expired);
+        } while (expired.size() == 500);
+    }
+
+    private JobDto submit(JobType type, Long requestedBy, String parameters, Work work) {
+        Job job = jobRepository.save(Job.builder()
+                .type(type)
+                .requestedBy(requestedBy)
+                .parameters(parameters)
+                .createdAt(Instant.now())
+                .build());
+
+        try {
+            executor.execute(() -> run(job.getId(), work));
+        } catch (RejectedExecutionException e) {
+            jobRepository.finish(job.getId(), JobStatus.FAILED, null, "Job queue was full.", null, Instant.now());
+            throw new JobQueueFullException("Too many jobs are waiting. Please try again later.", retryAfterSeconds);
+        }
+        return convertToDto(job);
+    }
+
+    private void run(Long jobId, Work work) {
+        if (jobRepository.markRunning(jobId, Instant.now()) == 0) {
+            // Cancelled while queued
+            return;
+        }
+
+        Context context = new Context(jobId);
+        try {
+            Outcome outcome = work.run(context);
+            jobRepository.finish(jobId, JobStatus.SUCCEEDED, outcome.summary(), null, outcome.resultFile(), Instant.now());
+        } catch (CancellationException e) {
+            jobRepository.finish(jobId, JobStatus.CANCELLED, "Cancelled at progress " + context.progress, null, null, Instant.now());
+        } catch (Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            jobRepository.finish(jobId, JobStatus.FAILED, null, message.length() > 1000 ? message.substring(0, 1000) : message, null, Instant.now());
+        }
+    }
+
+    private Job find(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + id));
+    }
+
+    // Tasks in a status (or in any status when null), for progress reporting
+    private long countInStatus(Status status, Long ownerId) {
+        List<StatusCount> counts = ownerId != null ? taskRepository.countByStatusForPerson(ownerId) : taskRepository.countByStatus();
+        long total = 0;
+        for (StatusCount count : counts) {
+            if (status == null || count.getStatus() == status) {
+                total += count.getTotal();
+            }
+        }
+        return total;
+    }
+
+    private static String describe(TaskQuery query) {
+        List<String> parts = new ArrayList<>();
+        parts.add(query.ownerId() != null ? "owner " + query.ownerId() : "all owners");
+        if (query.statuses() != null && !query.statuses().isEmpty()) {
+            parts.add("status " + query.statuses());
+        }
+        if (query.title() != null) {
+            parts.add("title \"" + query.title() + "\"");
+        }
+        return String.join(", ", parts);
+    }
+
+    private static JobDto convertToDto(Job job) {
+        return new JobDto(job.getId(), job.getType(), job.getStatus(), job.getRequestedBy(), job.getParameters(),
+                job.getProgress(), job.getTotal(), job.getSummary(), job.getError(), job.getResultFile() != null,
+                job.isCancelRequested(), job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt());
+    }
+
+    /**
+     * The body of a job.
+     */
+    @FunctionalInterface
+    interface Work {
+        Outcome run(Context context) throws Exception;
+    }
+
+    /**
+     * What a successful job leaves behind.
+     *
+     * @param summary    a one-line description
+     * @param resultFile the result file name inside the result directory, or {@code null}
+     */
+    record Outcome(String summary, String resultFile) {
+    }
+
+    /**
+     * Handed to running work to report progress and notice cancellation.
+     */
+    final class Context {
+        private final Long jobId;
+        private volatile long progress;
+
+        private Context(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        Long jobId() {
+            return jobId;
+        }
+
+        /**
+         * Records progress after a committed chunk, then stops the job if it was cancelled. The progress update only
+         * applies while the persisted cancel flag is clear, so a cancel requested through any instance is noticed
+         * here.
+         *
+         * @param done  units of work done so far
+         * @param total units of work in all, or {@code null} if unknown
+         * @throws CancellationException if the job was cancelled
+         */
+        void checkpoint(long done, Long total) {
+            if (jobRepository.updateProgress(jobId, done, total) == 0) {
+                throw new CancellationException();
+            }
+            progress = done;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.tasktrackingsystem.service;
 
+import com.example.tasktrackingsystem.dto.AuthenticatedPerson;
 import com.example.tasktrackingsystem.dto.PersonDto;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -13,15 +16,31 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * The type Jwt service.
+ * <p>
+ * The signing key and parser are built once; {@link JwtParser} is immutable and safe to share across threads.
  */
 @Service
 public class JwtService {
 
     private final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
 
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    /**
+     * Instantiates a new Jwt service.
+     */
+    public JwtService() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     /**
      * Generate token string.
      *
@@ -39,13 +58,31 @@ public class JwtService {
                 .setSubject(String.valueOf(personDto.getPersonId()))
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000L * 60 * 60))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verifies the token signature and expiry exactly once and returns the principal it carries.
+     *
+     * @param token the token
+     * @return the authenticated person, or empty when the token is malformed, forged or expired
+     */
+    public Optional<AuthenticatedPerson> verify(String token) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AuthenticatedPerson(
+                Long.valueOf(claims.getSubject()),
+                claims.get("username", String.class),
+                claims.get("fullName", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration().toInstant()
+        ));
     }
 
     /**
@@ -56,8 +93,7 @@ public class JwtService {
      */
     public boolean isTokenValid(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return claims.getExpiration().after(new Date());
+            return verify(token).isPresent();
         } catch (Exception e) {
             return false;
         }
@@ -93,10 +129,6 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,186 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.exceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process login throttle keyed on username and client address.
+ * <p>
+ * Each key hashes into a fixed-size table of token buckets. A bucket is a single {@code long}
+ * (last refill time and remaining tokens packed together) updated with CAS, so there are no locks and
+ * memory never grows with the number of distinct keys. Keys that collide share a bucket, which can only
+ * make the throttle stricter, never let an attacker reset it.
+ * <p>
+ * The client address is the request's remote address, which behind a trusted proxy Tomcat takes from
+ * X-Forwarded-For ({@code server.forward-headers-strategy}); otherwise all clients would share the proxy's bucket.
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private final boolean enabled;
+    private final BucketTable usernameBuckets;
+    private final BucketTable addressBuckets;
+
+    private final LongAdder rejectedByUsername = new LongAdder();
+    private final LongAdder rejectedByAddress = new LongAdder();
+
+    /**
+     * Instantiates a new Login throttle.
+     *
+     * @param enabled                 whether attempts are throttled at all
+     * @param slots                   buckets per table, rounded up to a power of two
+     * @param usernameCapacity        burst size per username
+     * @param usernameRefillPerMinute sustained attempts per minute per username
+     * @param addressCapacity         burst size per client address
+     * @param addressRefillPerMinute  sustained attempts per minute per client address
+     */
+    public LoginThrottle(
+            @Value("${security.login.throttle.enabled:true}") boolean enabled,
+            @Value("${security.login.throttle.slots:65536}") int slots,
+            @Value("${security.login.throttle.username.capacity:5}") int usernameCapacity,
+            @Value("${security.login.throttle.username.refill-per-minute:5}") int usernameRefillPerMinute,
+            @Value("${security.login.throttle.address.capacity:20}") int addressCapacity,
+            @Value("${security.login.throttle.address.refill-per-minute:20}") int addressRefillPerMinute
+    ) {
+        this.enabled = enabled;
+        this.usernameBuckets = new BucketTable(slots, usernameCapacity, usernameRefillPerMinute);
+        this.addressBuckets = new BucketTable(slots, addressCapacity, addressRefillPerMinute);
+    }
+
+    /**
+     * Takes one attempt from both the username and the address bucket.
+     *
+     * @param username      the username being logged into
+     * @param clientAddress the caller's address
+     * @throws TooManyLoginAttemptsException if either bucket is empty
+     */
+    public void acquire(String username, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+
+        if (clientAddress != null && !addressBuckets.tryAcquire(clientAddress)) {
+            rejectedByAddress.increment();
+            throw new TooManyLoginAttemptsException(
+                    "Too many login attempts. Please try again later.", addressBuckets.retryAfterSeconds());
+        }
+
+        if (username != null && !usernameBuckets.tryAcquire(username.trim().toLowerCase(Locale.ROOT))) {
+            rejectedByUsername.increment();
+            throw new TooManyLoginAttemptsException(
+                    "Too many login attempts. Please try again later.", usernameBuckets.retryAfterSeconds());
+        }
+    }
+
+    /**
+     * Rejected by username long.
+     *
+     * @return the long
+     */
+    public long rejectedByUsername() {
+        return rejectedByUsername.sum();
+    }
+
+    /**
+     * Rejected by address long.
+     *
+     * @return the long
+     */
+    public long rejectedByAddress() {
+        return rejectedByAddress.sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("security.login.throttled", rejectedByUsername, LongAdder::sum)
+                .tag("key", "username")
+                .description("Login attempts rejected by the throttle")
+                .register(registry);
+        FunctionCounter.builder("security.login.throttled", rejectedByAddress, LongAdder::sum)
+                .tag("key", "address")
+                .description("Login attempts rejected by the throttle")
+                .register(registry);
+    }
+
+    /**
+     * Fixed-size table of packed token buckets.
+     * <p>
+     * Layout of a slot: high 44 bits are the last refill time (ms since {@code epoch}, plus one so that
+     * {@code 0} means "never used"), low 20 bits are the remaining tokens in thousandths.
+     */
+    private static final class BucketTable {
+        private static final int TOKEN_BITS = 20;
+        private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+        private static final long ONE_TOKEN = 1000;
+
+        private final AtomicLongArray slots;
+        private final int mask;
+        private final long seed = new SecureRandom().nextLong();
+        private final long epoch = System.currentTimeMillis();
+        private final long capacity;
+        private final int refillPerMinute;
+        private final double refillPerMilli;
+
+        BucketTable(int slots, int capacity, int refillPerMinute) {
+            if (slots < 1 || capacity < 1 || refillPerMinute < 1) {
+                throw new IllegalArgumentException("Login throttle sizes and rates must be positive");
+            }
+            if (capacity * ONE_TOKEN > TOKEN_MASK) {
+                throw new IllegalArgumentException("Login throttle capacity must not exceed " + TOKEN_MASK / ONE_TOKEN);
+            }
+            int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+            this.slots = new AtomicLongArray(size);
+            this.mask = size - 1;
+            this.capacity = capacity * ONE_TOKEN;
+            this.refillPerMinute = refillPerMinute;
+            this.refillPerMilli = refillPerMinute * ONE_TOKEN / 60_000d;
+        }
+
+        boolean tryAcquire(String key) {
+            int index = (int) hash(key) & mask;
+            long now = System.currentTimeMillis() - epoch + 1;
+
+            while (true) {
+                long state = slots.get(index);
+                long tokens = capacity;
+                if (state != 0) {
+                    long elapsed = Math.max(0, now - (state >>> TOKEN_BITS));
+                    tokens = Math.min(capacity, (state & TOKEN_MASK) + (long) (elapsed * refillPerMilli));
+                }
+
+                if (tokens < ONE_TOKEN) {
+                    return false;
+                }
+
+                long next = (now << TOKEN_BITS) | (tokens - ONE_TOKEN);
+                if (slots.compareAndSet(index, state, next)) {
+                    return true;
+                }
+            }
+        }
+
+        long retryAfterSeconds() {
+            return Math.max(1, (60L + refillPerMinute - 1) / refillPerMinute);
+        }
+
+        // Seeded FNV-1a so slot placement cannot be predicted from the key alone
+        private long hash(String key) {
+            long h = 0xcbf29ce484222325L ^ seed;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return h ^ (h >>> 32);
+        }
+    }
+}
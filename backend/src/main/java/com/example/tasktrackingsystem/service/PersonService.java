@@ -1,5 +1,6 @@
 package com.example.tasktrackingsystem.service;
 
+import com.example.tasktrackingsystem.config.CacheConfig;
 import com.example.tasktrackingsystem.dto.*;
 import com.example.tasktrackingsystem.dto.CreatePersonDto;
 import com.example.tasktrackingsystem.dto.PersonDto;
@@ -7,24 +8,109 @@ import com.example.tasktrackingsystem.exceptions.InvalidInputException;
 import com.example.tasktrackingsystem.exceptions.PersonNotFoundException;
 import com.example.tasktrackingsystem.model.Person;
 import com.example.tasktrackingsystem.model.Role;
+import com.example.tasktrackingsystem.model.Status;
 import com.example.tasktrackingsystem.repository.PersonRepository;
+import com.example.tasktrackingsystem.repository.PersonRow;
+import com.example.tasktrackingsystem.repository.PersonVersionRow;
+import com.example.tasktrackingsystem.repository.PersonWorkloadRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The type Person service.
  */
 @Service
 public class PersonService {
+    private static final int MAX_PREFIX_LENGTH = 100;
+    private static final ObjectWriter DIRECTORY_ROW = new ObjectMapper()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .writerFor(PersonDto.class);
+
+    /**
+     * The orders the user directory can be listed in.
+     */
+    public enum DirectoryOrder {
+        USERNAME("username"),
+        FULL_NAME("fullName");
+
+        private final String parameter;
+
+        DirectoryOrder(String parameter) {
+            this.parameter = parameter;
+        }
+
+        /**
+         * Parses a request parameter.
+         *
+         * @param parameter username or fullName
+         * @return the order
+         */
+        public static DirectoryOrder of(String parameter) {
+            for (DirectoryOrder order : values()) {
+                if (order.parameter.equalsIgnoreCase(parameter)) {
+                    return order;
+                }
+            }
+            throw new InvalidInputException("Unsupported directory order: " + parameter + ". Use username or fullName.");
+        }
+
+        private CursorCodec.Key keyAfter(PersonRow row) {
+            return new CursorCodec.Key(this == USERNAME ? row.getUsername() : row.getFullName(), row.getPersonId());
+        }
+    }
+
+    /**
+     * The orders the workload listing can be sorted in, always highest first.
+     */
+    public enum WorkloadOrder {
+        TOTAL("total"),
+        OPEN("open");
+
+        private final String parameter;
+
+        WorkloadOrder(String parameter) {
+            this.parameter = parameter;
+        }
+
+        /**
+         * Parses a request parameter.
+         *
+         * @param parameter total or open
+         * @return the order
+         */
+        public static WorkloadOrder of(String parameter) {
+            for (WorkloadOrder order : values()) {
+                if (order.parameter.equalsIgnoreCase(parameter)) {
+                    return order;
+                }
+            }
+            throw new InvalidInputException("Unsupported workload order: " + parameter + ". Use total or open.");
+        }
+    }
+
     private final PersonRepository personRepository;
     private final PasswordEncoder passwordEncoder;
 
+    @Value("${person.directory.batch-size:500}")
+    private int directoryBatchSize = 500;
+
     /**
      * Instantiates a new Person service.
      *
@@ -38,30 +124,151 @@ public class PersonService {
 
     /**
      * Find by id person dto.
+     * <p>
+     * Served from the {@link CacheConfig#PERSONS} cache of read-only rows; writes below evict the entry. Every call
+     * returns a new dto, so a caller changing it does not change the cached person.
      *
      * @param id the id
      * @return the person dto
      */
 // Get Person
     public PersonDto findById(Long id) {
-        return personRepository.findById(id)
-                .map(this::convertToDto)
+        return personRepository.findRowById(id)
+                .map(PersonService::convertRowToDto)
                 .orElseThrow(() -> new PersonNotFoundException("Person with id " + id + " not found"));
     }
 
     /**
-     * Find all list.
+     * Find current person version row.
+     * <p>
+     * Reads the public columns and the row version in one uncached query, so an entity tag built from the version
+     * always describes the body built from the same row. {@link #findById} may serve an older cached row.
      *
-     * @return the list
+     * @param id the id
+     * @return the person columns and row version
      */
-// Get All Person
-    public List<PersonDto> findAll() {
+// Get Person with its version
+    public PersonVersionRow findCurrent(Long id) {
+        return personRepository.findVersionedById(id)
+                .orElseThrow(() -> new PersonNotFoundException("Person with id " + id + " not found"));
+    }
 
-        List<PersonDto> list = personRepository.findAll().stream().map(this::convertToDto).toList();
+    /**
+     * Find directory cursor page.
+     * <p>
+     * Reads one keyset page of the user directory, optionally narrowed to names starting with a prefix. Every page
+     * is a single index range read, however deep the caller has paged.
+     *
+     * @param order  the sort order; the prefix applies to the same column
+     * @param prefix the prefix, may be {@code null} or blank
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the page size
+     * @return the page
+     */
+// Get Person Directory
+    public CursorPage<PersonDto> findDirectory(DirectoryOrder order, String prefix, String cursor, int size) {
+        List<PersonRow> rows = fetchDirectory(order, likePattern(prefix), CursorCodec.decodeKey(cursor), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<PersonRow> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CursorCodec.Key last = order.keyAfter(content.getLast());
+            nextCursor = CursorCodec.encode(last.value(), last.id());
+        }
+        return new CursorPage<>(content.stream().map(PersonService::convertRowToDto).toList(), nextCursor, hasNext);
+    }
 
-        if (list.isEmpty()) throw new PersonNotFoundException("No users found");
+    /**
+     * Stream directory long.
+     * <p>
+     * Writes the whole directory, or the part matching the prefix, as NDJSON. Rows are read in keyset batches of
+     * {@code person.directory.batch-size}, so at most one batch is in memory at a time.
+     *
+     * @param order  the sort order; the prefix applies to the same column
+     * @param prefix the prefix, may be {@code null} or blank
+     * @param out    the destination, flushed but not closed
+     * @return the number of people written
+     * @throws IOException if the destination cannot be written
+     */
+    public long streamDirectory(DirectoryOrder order, String prefix, OutputStream out) throws IOException {
+        String pattern = likePattern(prefix);
+        CursorCodec.Key after = CursorCodec.Key.FIRST;
+        long written = 0;
+
+        try (JsonGenerator generator = DIRECTORY_ROW.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            List<PersonRow> batch;
+            do {
+                batch = fetchDirectory(order, pattern, after, directoryBatchSize);
+                for (PersonRow row : batch) {
+                    DIRECTORY_ROW.writeValue(generator, convertRowToDto(row));
+                    generator.writeRaw('\n');
+                }
+                written += batch.size();
+                if (!batch.isEmpty()) {
+                    after = order.keyAfter(batch.getLast());
+                    // Push each batch to the client instead of buffering the whole directory
+                    generator.flush();
+                }
+            } while (batch.size() == directoryBatchSize);
+        }
+        out.flush();
+        return written;
+    }
+
+    /**
+     * Find workload cursor page.
+     * <p>
+     * Lists people with their task counts per status, busiest first. Each page is one grouped query over
+     * persons and tasks, however many people it shows.
+     *
+     * @param order  the count to sort by
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size   the page size
+     * @return the page
+     */
+// Get Workload
+    public CursorPage<PersonWorkloadDto> findWorkload(WorkloadOrder order, String cursor, int size) {
+        CursorCodec.Key after = CursorCodec.decodeKey(cursor);
+        long afterCount;
+        try {
+            afterCount = after.value().isEmpty() ? Long.MAX_VALUE : Long.parseLong(after.value());
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid cursor.");
+        }
 
-        return list;
+        List<PersonWorkloadRow> rows = switch (order) {
+            case TOTAL -> personRepository.findWorkloadByTotal(afterCount, after.id(), Limit.of(size + 1));
+            case OPEN -> personRepository.findWorkloadByOpen(afterCount, after.id(), Limit.of(size + 1));
+        };
+        boolean hasNext = rows.size() > size;
+        List<PersonWorkloadRow> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PersonWorkloadRow last = content.getLast();
+            nextCursor = CursorCodec.encode(String.valueOf(order == WorkloadOrder.TOTAL ? last.getTotal() : last.getOpen()), last.getPersonId());
+        }
+        return new CursorPage<>(content.stream().map(PersonService::convertWorkloadToDto).toList(), nextCursor, hasNext);
+    }
+
+    private List<PersonRow> fetchDirectory(DirectoryOrder order, String pattern, CursorCodec.Key after, int limit) {
+        return switch (order) {
+            case USERNAME -> personRepository.findDirectoryByUsername(pattern, after.value(), Limit.of(limit));
+            case FULL_NAME -> personRepository.findDirectoryByFullName(pattern, after.value(), after.id(), Limit.of(limit));
+        };
+    }
+
+    // A leading-prefix LIKE stays an index range scan; the escape character matches the repository queries
+    private static String likePattern(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return "%";
+        }
+        String trimmed = prefix.trim();
+        if (trimmed.length() > MAX_PREFIX_LENGTH) {
+            throw new InvalidInputException("Search prefix must be at most " + MAX_PREFIX_LENGTH + " characters.");
+        }
+        return trimmed.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
     }
 
     /**
@@ -117,6 +324,7 @@ public class PersonService {
      * @return the person dto
      */
 // Update Person
+    @CacheEvict(cacheNames = CacheConfig.PERSONS, key = "#id")
     public PersonDto patchProfile(Long id, PatchPersonProfileDto dto) {
         Person person = personRepository.findById(id)
                 .orElseThrow(() -> new PersonNotFoundException("Person with id " + id + " not found"));
@@ -163,6 +371,7 @@ public class PersonService {
      * @return the person dto
      */
 // Change pass
+    @CacheEvict(cacheNames = CacheConfig.PERSONS, key = "#id")
     public PersonDto changePassword(Long id, ChangePasswordDto dto) {
         Person person = personRepository.findById(id)
                 .orElseThrow(() -> new PersonNotFoundException("Person with id " + id + " not found"));
@@ -171,7 +380,8 @@ public class PersonService {
             throw new BadCredentialsException("Current password is incorrect.");
         }
 
-        if (passwordEncoder.matches(dto.getNewPassword(), person.getPassword())) {
+        // The current password was just verified, so comparing the raw values avoids a second BCrypt round
+        if (dto.getNewPassword().equals(dto.getCurrentPassword())) {
             throw new InvalidInputException("New password must be different from the current password.");
         }
 
@@ -187,12 +397,26 @@ public class PersonService {
      * @param id the id
      */
 // Delete Person
+    @CacheEvict(cacheNames = CacheConfig.PERSONS, key = "#id")
     public void delete(Long id) {
         Person person = personRepository.findById(id)
                 .orElseThrow(() -> new PersonNotFoundException("Person with id " + id + " not found"));
         personRepository.delete(person);
     }
 
+    /**
+     * Get reference person.
+     * <p>
+     * A lazy reference for use as an association, e.g. a task owner. No row is read unless a field other than
+     * the id is accessed.
+     *
+     * @param id the id
+     * @return the person reference
+     */
+    public Person getReference(Long id) {
+        return personRepository.getReferenceById(id);
+    }
+
     /**
      * Convert to dto person dto.
      *
@@ -209,6 +433,34 @@ public class PersonService {
         );
     }
 
+    /**
+     * Convert row to dto person dto.
+     *
+     * @param row the projected person columns
+     * @return the person dto
+     */
+    public static PersonDto convertRowToDto(PersonRow row) {
+        return new PersonDto(
+                row.getPersonId(),
+                row.getFullName(),
+                String.valueOf(row.getRole()),
+                row.getUsername()
+        );
+    }
+
+    private static PersonWorkloadDto convertWorkloadToDto(PersonWorkloadRow row) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        byStatus.put(Status.TO_DO, row.getToDo());
+        byStatus.put(Status.IN_PROGRESS, row.getInProgress());
+        byStatus.put(Status.COMPLETED, row.getCompleted());
+        return new PersonWorkloadDto(
+                new PersonDto(row.getPersonId(), row.getFullName(), String.valueOf(row.getRole()), row.getUsername()),
+                byStatus,
+                row.getOpen(),
+                row.getTotal()
+        );
+    }
+
     /**
      * Convert to entity person.
      *
@@ -221,7 +473,8 @@ public class PersonService {
                 createPersonDto.getFullName(),
                 Role.valueOf(createPersonDto.getRole()),
                 createPersonDto.getUsername(),
-                createPersonDto.getPassword()
+                createPersonDto.getPassword(),
+                null
         );
     }
 }
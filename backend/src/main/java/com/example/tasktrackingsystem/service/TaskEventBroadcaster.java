@@ -0,0 +1,331 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskEventDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers.
+ * <p>
+ * Each change is serialized once and offered to the matching subscribers' bounded queues, so the committing
+ * thread never writes to a socket. Every subscriber is drained by at most one virtual thread at a time; a
+ * subscriber whose queue fills up, or whose writes stall for {@code tasks.events.stall-timeout}, is evicted
+ * and its stream closed, after which the client reconnects and refetches. A heartbeat comment keeps idle
+ * connections open through proxies and detects clients that went away.
+ */
+@Component
+public class TaskEventBroadcaster implements MeterBinder, DisposableBean {
+
+    private static final ObjectWriter EVENT = new ObjectMapper().writerFor(TaskEventDto.class);
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long stallTimeoutNanos;
+
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-events-", 0).factory());
+
+    private final Map<Long, Set<Subscriber>> byOwner = new ConcurrentHashMap<>();
+    private final Set<Subscriber> global = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Instantiates a new Task event broadcaster.
+     *
+     * @param bufferSize   events buffered per subscriber before it is evicted as too slow
+     * @param timeout      how long a stream stays open before the client has to reconnect
+     * @param stallTimeout how long a single write may block before the subscriber is evicted
+     */
+    public TaskEventBroadcaster(
+            @Value("${tasks.events.buffer-size:256}") int bufferSize,
+            @Value("${tasks.events.timeout:PT30M}") Duration timeout,
+            @Value("${tasks.events.stall-timeout:PT1M}") Duration stallTimeout
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.stallTimeoutNanos = stallTimeout.toNanos();
+    }
+
+    /**
+     * Opens a stream of one owner's task changes.
+     *
+     * @param ownerId the owner's person id
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribeOwner(Long ownerId) {
+        Subscriber subscriber = new Subscriber(ownerId, null);
+        byOwner.compute(ownerId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        return subscriber.open();
+    }
+
+    /**
+     * Opens a stream of every task change, optionally narrowed to changes into or out of some statuses.
+     *
+     * @param statuses the statuses of interest, {@code null} or empty for all
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribeAll(Set<Status> statuses) {
+        Subscriber subscriber = new Subscriber(null, statuses == null || statuses.isEmpty() ? null : EnumSet.copyOf(statuses));
+        global.add(subscriber);
+        return subscriber.open();
+    }
+
+    /**
+     * Subscriber count int.
+     *
+     * @return the number of open streams
+     */
+    public int subscriberCount() {
+        int count = global.size();
+        for (Set<Subscriber> subscribers : byOwner.values()) {
+            count += subscribers.size();
+        }
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onTaskChanged(TaskChangedEvent event) {
+        if (byOwner.isEmpty() && global.isEmpty()) {
+            return;
+        }
+
+        TaskDto task = event.after() != null ? event.after() : event.before();
+        Frame frame = new Frame(sequence.incrementAndGet(), event.type().name().toLowerCase(Locale.ROOT),
+                serialize(new TaskEventDto(event.type(), event.taskId(), task)));
+        published.increment();
+
+        offerAll(byOwner.get(event.ownerId()), event, frame);
+        // A task moved to another owner is also reported to the owner it left
+        if (event.before() != null && event.after() != null
+                && !Objects.equals(event.before().getUserId(), event.after().getUserId())) {
+            offerAll(byOwner.get(event.before().getUserId()), event, frame);
+        }
+        offerAll(global, event, frame);
+    }
+
+    @Scheduled(fixedRateString = "${tasks.events.heartbeat-interval:PT15S}", initialDelayString = "${tasks.events.heartbeat-interval:PT15S}")
+    void heartbeat() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> subscribers : byOwner.values()) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.heartbeat(now);
+            }
+        }
+        for (Subscriber subscriber : global) {
+            subscriber.heartbeat(now);
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("tasks.events.subscribers", this, TaskEventBroadcaster::subscriberCount)
+                .description("Open task event streams")
+                .register(registry);
+        FunctionCounter.builder("tasks.events.published", published, LongAdder::sum)
+                .description("Task changes fanned out to subscribers")
+                .register(registry);
+        FunctionCounter.builder("tasks.events.evicted", evicted, LongAdder::sum)
+                .description("Subscribers dropped for falling behind")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        for (Set<Subscriber> subscribers : byOwner.values()) {
+            subscribers.forEach(Subscriber::close);
+        }
+        global.forEach(Subscriber::close);
+        sender.shutdownNow();
+    }
+
+    // Overridden in tests to observe what is written
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // Evicted subscribers, for tests
+    long evictedCount() {
+        return evicted.sum();
+    }
+
+    private static void offerAll(Set<Subscriber> subscribers, TaskChangedEvent event, Frame frame) {
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    private static String serialize(TaskEventDto event) {
+        try {
+            return EVENT.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Task event could not be serialized", e);
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (subscriber.ownerId == null) {
+            global.remove(subscriber);
+            return;
+        }
+        byOwner.computeIfPresent(subscriber.ownerId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    // One queued SSE message; a null name marks a heartbeat comment
+    private record Frame(long id, String name, String data) {
+
+        static final Frame CONNECTED = new Frame(0, null, "connected");
+        static final Frame HEARTBEAT = new Frame(0, null, "heartbeat");
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long ownerId;
+        private final Set<Status> statuses;
+        private final SseEmitter emitter = newEmitter(timeoutMillis);
+        private final ArrayBlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        // When the write in progress started, 0 when no write is in progress
+        private volatile long writingSince;
+
+        Subscriber(Long ownerId, Set<Status> statuses) {
+            this.ownerId = ownerId;
+            this.statuses = statuses;
+        }
+
+        SseEmitter open() {
+            emitter.onCompletion(this::disconnect);
+            emitter.onTimeout(this::disconnect);
+            emitter.onError(error -> disconnect());
+            // Flushes the response headers so the client sees the stream open before the first change
+            offer(Frame.CONNECTED);
+            return emitter;
+        }
+
+        boolean accepts(TaskChangedEvent event) {
+            if (statuses == null) {
+                return true;
+            }
+            return (event.before() != null && statuses.contains(event.before().getTrackingStatus()))
+                    || (event.after() != null && statuses.contains(event.after().getTrackingStatus()));
+        }
+
+        void offer(Frame frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                evict();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        void heartbeat(long now) {
+            long since = writingSince;
+            if (since != 0 && now - since > stallTimeoutNanos) {
+                evict();
+            } else {
+                offer(Frame.HEARTBEAT);
+            }
+        }
+
+        private void drain() {
+            do {
+                Frame frame;
+                while (!closed.get() && (frame = queue.poll()) != null) {
+                    writingSince = System.nanoTime();
+                    try {
+                        emitter.send(frame.toEvent());
+                    } catch (IOException | IllegalStateException e) {
+                        // The client went away; the container reports the error and completes the emitter
+                        disconnect();
+                        return;
+                    } finally {
+                        writingSince = 0;
+                    }
+                }
+                draining.set(false);
+                // Re-check: a frame offered after the last poll but before the flag was cleared would otherwise wait
+            } while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void evict() {
+            if (disconnect()) {
+                evicted.increment();
+                // complete() waits for a blocked write to finish, so it must not run on the publishing thread
+                sender.execute(emitter::complete);
+            }
+        }
+
+        void close() {
+            if (disconnect()) {
+                emitter.complete();
+            }
+        }
+
+        private boolean disconnect() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            unregister(this);
+            queue.clear();
+            return true;
+        }
+    }
+}
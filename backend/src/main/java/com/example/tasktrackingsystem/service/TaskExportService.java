@@ -0,0 +1,281 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.exceptions.ExportBusyException;
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.repository.TaskQuery;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * Streams tasks out as NDJSON or CSV.
+ * <p>
+ * Rows are read in keyset batches of {@code tasks.export.batch-size}, each its own short query, and written to the
+ * output stream between queries. No cursor, transaction or connection is held while a slow client drains the
+ * output, and memory use does not grow with the number of tasks exported. The export is therefore not one
+ * snapshot: a task changed midway shows up in whichever state its batch read.
+ * <p>
+ * Exports streamed to HTTP clients also take one of {@code tasks.export.max-concurrent} slots, so a handful of slow
+ * downloads cannot keep request threads and database permits busy; larger exports belong in a background job.
+ */
+@Service
+public class TaskExportService {
+
+    private static final ObjectWriter ROW = new ObjectMapper()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .writerFor(TaskDto.class);
+
+    private static final String CSV_HEADER = "id,title,description,trackingStatus,userId,username";
+
+    /**
+     * The supported export formats.
+     */
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Parses a format name, ignoring case.
+         *
+         * @param name ndjson or csv
+         * @return the format
+         */
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.extension.equals(name.toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new InvalidInputException("Unsupported export format: " + name + ". Use ndjson or csv.");
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnly;
+    private final int batchSize;
+    private final Semaphore streamSlots;
+    private final long retryAfterSeconds;
+
+    /**
+     * Instantiates a new Task export service.
+     *
+     * @param taskRepository     the task repository
+     * @param transactionManager the transaction manager
+     * @param batchSize          rows read per query
+     * @param maxConcurrent      exports streamed to HTTP clients at once
+     * @param retryAfterSeconds  the Retry-After hint when every slot is taken
+     */
+    public TaskExportService(
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${tasks.export.batch-size:1000}") int batchSize,
+            @Value("${tasks.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${tasks.export.retry-after-seconds:5}") long retryAfterSeconds
+    ) {
+        this.taskRepository = taskRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.streamSlots = new Semaphore(maxConcurrent);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Reserves a slot for an export streamed to an HTTP client. Background jobs do not need one.
+     *
+     * @return the slot; close it once the response has been written
+     * @throws ExportBusyException if every slot is taken
+     */
+    public Slot reserveStream() {
+        if (!streamSlots.tryAcquire()) {
+            throw new ExportBusyException("Too many exports are running. Please try again shortly.", retryAfterSeconds);
+        }
+        return new Slot();
+    }
+
+    /**
+     * Writes every task matching the query, in id order. The output stream is flushed but not closed.
+     *
+     * @param query  the filter
+     * @param format the output format
+     * @param out    the destination
+     * @return the number of tasks written
+     * @throws IOException if the destination cannot be written, e.g. the client went away
+     */
+    public long export(TaskQuery query, Format format, OutputStream out) throws IOException {
+        return export(query, format, out, written -> {
+        });
+    }
+
+    /**
+     * Writes every task matching the query, in id order, reporting progress between batches. The output stream is
+     * flushed but not closed.
+     *
+     * @param query    the filter
+     * @param format   the output format
+     * @param out      the destination
+     * @param progress told how many tasks have been written before each further batch is read; an unchecked
+     *                 exception it throws stops the export
+     * @return the number of tasks written
+     * @throws IOException if the destination cannot be written, e.g. the client went away
+     */
+    public long export(TaskQuery query, Format format, OutputStream out, LongConsumer progress) throws IOException {
+        Iterator<TaskDto> rows = new BatchIterator(query, progress);
+        return format == Format.CSV ? writeCsv(rows, out) : writeNdjson(rows, out);
+    }
+
+    private static long writeNdjson(Iterator<TaskDto> rows, OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = ROW.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rows.hasNext()) {
+                ROW.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    private static long writeCsv(Iterator<TaskDto> rows, OutputStream out) throws IOException {
+        long written = 0;
+        // Not closed: that would close the response stream underneath the caller
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (rows.hasNext()) {
+            TaskDto task = rows.next();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writer.write(csvCell(task.getTitle()));
+            writer.write(',');
+            writer.write(csvCell(task.getDescription()));
+            writer.write(',');
+            writer.write(task.getTrackingStatus() != null ? task.getTrackingStatus().name() : "");
+            writer.write(',');
+            writer.write(task.getUserId() != null ? String.valueOf(task.getUserId()) : "");
+            writer.write(',');
+            writer.write(csvCell(task.getUsername()));
+            writer.write("\r\n");
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+
+    /**
+     * A reserved streaming slot. Closing it more than once has no further effect.
+     */
+    public final class Slot implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Slot() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                streamSlots.release();
+            }
+        }
+    }
+
+    // Reads the next keyset batch only once the previous one has been written out
+    private final class BatchIterator implements Iterator<TaskDto> {
+
+        private final TaskQuery query;
+        private final LongConsumer progress;
+        private List<TaskDto> batch = List.of();
+        private int position;
+        private long handedOut;
+        private long afterId;
+        private boolean exhausted;
+
+        BatchIterator(TaskQuery query, LongConsumer progress) {
+            this.query = query;
+            this.progress = progress;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < batch.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            if (handedOut > 0) {
+                progress.accept(handedOut);
+            }
+            // One short transaction per batch: the connection goes back to the pool before any row is written
+            long after = afterId;
+            batch = readOnly.execute(status -> taskRepository.findByQueryAfter(query, after, batchSize));
+            position = 0;
+            exhausted = batch.size() < batchSize;
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+            return !batch.isEmpty();
+        }
+
+        @Override
+        public TaskDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            handedOut++;
+            return batch.get(position++);
+        }
+    }
+
+    // RFC 4180 quoting: only cells containing a separator, quote or line break are quoted
+    static String csvCell(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
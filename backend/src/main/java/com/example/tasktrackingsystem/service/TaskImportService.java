@@ -0,0 +1,219 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.CreateTaskDto;
+import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskImportResultDto;
+import com.example.tasktrackingsystem.dto.TaskImportRowDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk task import for migrating backlogs from other trackers.
+ * <p>
+ * The request body is read one row at a time, either as a JSON array or as newline-delimited JSON, so memory use
+ * does not grow with the upload. Valid rows are written in chunks of {@code tasks.import.chunk-size}, each chunk in
+ * its own transaction and sent to the database as JDBC batches.
+ */
+@Service
+public class TaskImportService {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader ROWS = MAPPER.readerFor(JsonNode.class);
+
+    private final TaskRepository taskRepository;
+    private final PersonService personService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
+    private final int chunkSize;
+    private final int maxRows;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Task import service.
+     *
+     * @param taskRepository     the task repository
+     * @param personService      the person service
+     * @param validator          the bean validator
+     * @param transactionManager the transaction manager
+     * @param eventPublisher     the event publisher
+     * @param changeSequence     the change sequence
+     * @param chunkSize          rows per transaction
+     * @param maxRows            rows accepted per request
+     */
+    public TaskImportService(
+            TaskRepository taskRepository,
+            PersonService personService,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ChangeSequence changeSequence,
+            @Value("${tasks.import.chunk-size:1000}") int chunkSize,
+            @Value("${tasks.import.max-rows:100000}") int maxRows
+    ) {
+        this.taskRepository = taskRepository;
+        this.personService = personService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.changeSequence = changeSequence;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports tasks for one owner.
+     * Rows without a tracking status start as {@link Status#TO_DO}. Chunks already written stay written
+     * if a later chunk fails or the body turns out to be malformed.
+     *
+     * @param body   a JSON array or NDJSON stream of {@link CreateTaskDto}
+     * @param userId the owner of every imported task
+     * @return the per-row outcome
+     * @throws IOException if the body cannot be read
+     */
+    public TaskImportResultDto importTasks(InputStream body, Long userId) throws IOException {
+        PersonDto owner = personService.findById(userId);
+
+        List<TaskImportRowDto> results = new ArrayList<>();
+        List<CreateTaskDto> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkRows = new ArrayList<>(chunkSize);
+        String error = null;
+        int row = 0;
+
+        try (MappingIterator<JsonNode> nodes = ROWS.readValues(body)) {
+            while (nodes.hasNextValue()) {
+                if (row == maxRows) {
+                    error = "Stopped after " + maxRows + " rows, the per-request limit.";
+                    break;
+                }
+
+                JsonNode node = nodes.nextValue();
+                String rejection = null;
+                CreateTaskDto dto = null;
+                try {
+                    dto = MAPPER.treeToValue(node, CreateTaskDto.class);
+                    rejection = validate(dto);
+                } catch (JsonProcessingException | IllegalArgumentException ex) {
+                    rejection = "Unreadable row: " + ex.getMessage();
+                }
+
+                if (rejection != null) {
+                    results.add(new TaskImportRowDto(row, TaskImportRowDto.REJECTED, null, rejection));
+                } else {
+                    chunk.add(dto);
+                    chunkRows.add(row);
+                    if (chunk.size() == chunkSize) {
+                        write(chunk, chunkRows, owner, results);
+                    }
+                }
+                row++;
+            }
+        } catch (JsonProcessingException ex) {
+            // Syntax errors leave the stream position undefined, so nothing after them can be trusted
+            error = "Malformed JSON after row " + row + ": " + ex.getOriginalMessage();
+        }
+
+        write(chunk, chunkRows, owner, results);
+        results.sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+
+        int created = 0, rejected = 0, failed = 0;
+        for (TaskImportRowDto result : results) {
+            switch (result.getStatus()) {
+                case TaskImportRowDto.CREATED -> created++;
+                case TaskImportRowDto.REJECTED -> rejected++;
+                default -> failed++;
+            }
+        }
+        return new TaskImportResultDto(row, created, rejected, failed, error, results);
+    }
+
+    private String validate(CreateTaskDto dto) {
+        Set<ConstraintViolation<CreateTaskDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    // Writes and clears the pending chunk in one transaction
+    private void write(List<CreateTaskDto> chunk, List<Integer> chunkRows, PersonDto owner, List<TaskImportRowDto> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Task> saved = transactionTemplate.execute(status -> {
+                // Reference the owner by id only, as createTask does
+                Person person = entityManager.getReference(Person.class, owner.getPersonId());
+                long changeSeq = changeSequence.next();
+
+                List<Task> tasks = new ArrayList<>(chunk.size());
+                for (CreateTaskDto dto : chunk) {
+                    tasks.add(Task.builder()
+                            .title(dto.getTitle())
+                            .description(dto.getDescription())
+                            .trackingStatus(dto.getTrackingStatus() != null ? dto.getTrackingStatus() : Status.TO_DO)
+                            .person(person)
+                            .changeSeq(changeSeq)
+                            .build());
+                }
+
+                List<Task> inserted = taskRepository.saveAll(tasks);
+                taskRepository.flush();
+                for (Task task : inserted) {
+                    eventPublisher.publishEvent(TaskChangedEvent.created(new TaskDto(task.getId(), task.getTitle(),
+                            task.getDescription(), task.getTrackingStatus(), owner.getPersonId(), owner.getUsername(), task.getVersion())));
+                }
+
+                // The request-scoped persistence context would otherwise hold every imported entity
+                entityManager.clear();
+                return inserted;
+            });
+
+            for (int i = 0; i < saved.size(); i++) {
+                results.add(new TaskImportRowDto(chunkRows.get(i), TaskImportRowDto.CREATED, saved.get(i).getId(), null));
+            }
+        } catch (DataAccessException | TransactionException ex) {
+            entityManager.clear();
+            for (Integer row : chunkRows) {
+                results.add(new TaskImportRowDto(row, TaskImportRowDto.FAILED, null, "Chunk could not be written: " + ex.getMostSpecificCause().getMessage()));
+            }
+        } finally {
+            chunk.clear();
+            chunkRows.clear();
+        }
+    }
+}
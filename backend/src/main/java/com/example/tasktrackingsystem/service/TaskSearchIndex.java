@@ -0,0 +1,314 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task titles and descriptions with BM25 ranking.
+ * <p>
+ * The index is rebuilt from {@link TaskRepository} when the application starts and kept current from
+ * {@link TaskChangedEvent}s after each write commits. Title terms count {@code TITLE_WEIGHT} times so
+ * that a title match outranks the same word buried in a description.
+ * <p>
+ * A rebuild fills a new segment off to the side while searches keep reading the current one, then swaps it in;
+ * writes made during the scan go to both segments.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final TaskRepository taskRepository;
+    private final int rebuildBatchSize;
+
+    // The segment searches read; replaced as a whole when a rebuild finishes
+    private volatile Segment live = new Segment();
+
+    // The segment a rebuild is filling, or null when none is running
+    private volatile Rebuild building;
+
+    /**
+     * Instantiates a new Task search index.
+     *
+     * @param taskRepository   the task repository
+     * @param rebuildBatchSize rows read per query during a rebuild
+     */
+    public TaskSearchIndex(
+            TaskRepository taskRepository,
+            @Value("${search.rebuild.batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * Adds or replaces a task in the index.
+     *
+     * @param id          the task id
+     * @param ownerId     the owner's person id
+     * @param status      the tracking status
+     * @param title       the title
+     * @param description the description, may be {@code null}
+     */
+    public void index(Long id, Long ownerId, Status status, String title, String description) {
+        Document document = document(ownerId, status, title, description);
+        // The segment being built first: once the rebuild clears building, live is already the new segment
+        Rebuild rebuild = building;
+        if (rebuild != null) {
+            rebuild.touched().add(id);
+            rebuild.segment().put(id, document, null);
+        }
+        live.put(id, document, null);
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param id the task id
+     */
+    public void remove(Long id) {
+        Rebuild rebuild = building;
+        if (rebuild != null) {
+            rebuild.touched().add(id);
+            rebuild.segment().remove(id);
+        }
+        live.remove(id);
+    }
+
+    /**
+     * Runs a ranked search.
+     *
+     * @param query   free text; split into terms the same way documents are
+     * @param ownerId only return this owner's tasks, or {@code null} for all owners
+     * @param status  only return tasks with this status, or {@code null} for any status
+     * @param offset  number of best hits to skip
+     * @param limit   maximum number of hits to return
+     * @return hits ordered by descending score
+     * @throws InvalidInputException if the query contains no searchable terms
+     */
+    public List<Hit> search(String query, Long ownerId, Status status, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            throw new InvalidInputException("Search query must contain at least one letter or digit.");
+        }
+
+        Segment segment = live;
+        int documentCount = segment.documents.size();
+        if (documentCount == 0 || limit <= 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1d, (double) segment.totalLength.get() / documentCount);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Long, Integer> matches = segment.postings.get(term);
+            if (matches == null || matches.isEmpty()) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+            for (Map.Entry<Long, Integer> match : matches.entrySet()) {
+                Document document = segment.documents.get(match.getKey());
+                if (document == null
+                        || (ownerId != null && !ownerId.equals(document.ownerId()))
+                        || (status != null && status != document.status())) {
+                    continue;
+                }
+
+                int tf = match.getValue();
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                scores.merge(match.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+
+        // Bounded min-heap keeps only the best offset + limit hits
+        int wanted = offset + limit;
+        Comparator<Hit> byScore = Comparator.comparingDouble(Hit::score).thenComparing(Hit::taskId, Comparator.reverseOrder());
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(wanted, scores.size())), byScore);
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            best.offer(new Hit(score.getKey(), score.getValue()));
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(byScore.reversed());
+        return offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+    }
+
+    /**
+     * Reloads every task from the database into a new segment and swaps it in once complete.
+     * Searches keep being served from the previous segment until then. Writes that commit while the scan runs are
+     * applied to both segments, and the scan never overwrites them with older rows.
+     */
+    public synchronized void rebuild() {
+        Rebuild rebuild = new Rebuild(new Segment(), ConcurrentHashMap.newKeySet());
+        building = rebuild;
+        try {
+            long afterId = 0;
+            List<Task> batch;
+            do {
+                batch = taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(rebuildBatchSize));
+                for (Task task : batch) {
+                    rebuild.segment().put(task.getId(), document(task.getPerson().getPersonId(), task.getTrackingStatus(),
+                            task.getTitle(), task.getDescription()), rebuild.touched());
+                    afterId = task.getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+            live = rebuild.segment();
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Size int.
+     *
+     * @return the number of indexed tasks
+     */
+    public int size() {
+        return live.documents.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            remove(event.taskId());
+        } else {
+            TaskDto task = event.after();
+            index(task.getId(), task.getUserId(), task.getTrackingStatus(), task.getTitle(), task.getDescription());
+        }
+    }
+
+    /**
+     * Splits text into lower-case letter/digit terms.
+     *
+     * @param text the text, may be {@code null}
+     * @return the terms in order, duplicates included
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static Document document(Long ownerId, Status status, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        return new Document(ownerId, status, length, Map.copyOf(frequencies));
+    }
+
+    /**
+     * Documents, postings and length total of one generation of the index.
+     */
+    private static final class Segment {
+
+        // term -> (task id -> weighted term frequency)
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final AtomicLong totalLength = new AtomicLong();
+
+        // Adds or replaces a document, unless its id is in skipIfTouched (checked under the document's own lock)
+        void put(Long id, Document document, Set<Long> skipIfTouched) {
+            // compute() serialises concurrent writers of the same task, so postings never mix two versions
+            documents.compute(id, (key, previous) -> {
+                if (skipIfTouched != null && skipIfTouched.contains(key)) {
+                    return previous;
+                }
+                if (previous != null) {
+                    unlink(key, previous);
+                }
+                // Insert under the term's own lock: unlink() of another task drops a per-term map once it is empty,
+                // and a posting added to a map that was just dropped would be lost
+                for (Map.Entry<String, Integer> frequency : document.frequencies().entrySet()) {
+                    postings.compute(frequency.getKey(), (term, matches) -> {
+                        Map<Long, Integer> updated = matches == null ? new ConcurrentHashMap<>() : matches;
+                        updated.put(key, frequency.getValue());
+                        return updated;
+                    });
+                }
+                totalLength.addAndGet(document.length());
+                return document;
+            });
+        }
+
+        void remove(Long id) {
+            documents.computeIfPresent(id, (key, previous) -> {
+                unlink(key, previous);
+                return null;
+            });
+        }
+
+        private void unlink(Long id, Document document) {
+            for (String term : document.frequencies().keySet()) {
+                postings.computeIfPresent(term, (key, matches) -> {
+                    matches.remove(id);
+                    return matches.isEmpty() ? null : matches;
+                });
+            }
+            totalLength.addAndGet(-document.length());
+        }
+    }
+
+    // A segment being filled by rebuild(), with the ids written by events since it started
+    private record Rebuild(Segment segment, Set<Long> touched) {
+    }
+
+    /**
+     * One ranked search result.
+     *
+     * @param taskId the task id
+     * @param score  the BM25 score
+     */
+    public record Hit(Long taskId, double score) {
+    }
+
+    private record Document(Long ownerId, Status status, int length, Map<String, Integer> frequencies) {
+    }
+}
@@ -1,23 +1,42 @@
 package com.example.tasktrackingsystem.service;
 
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateResultDto;
 import com.example.tasktrackingsystem.dto.CreateTaskDto;
+import com.example.tasktrackingsystem.dto.CursorPage;
 import com.example.tasktrackingsystem.dto.PersonDto;
 import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskSearchHitDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
 import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.exceptions.PreconditionFailedException;
 import com.example.tasktrackingsystem.exceptions.TaskNotFoundException;
 import com.example.tasktrackingsystem.model.Task;
 import com.example.tasktrackingsystem.model.Status;
-import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.repository.TaskQuery;
 import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.example.tasktrackingsystem.repository.TaskVersionRow;
+import com.example.tasktrackingsystem.repository.TaskStatusRow;
+import com.example.tasktrackingsystem.repository.TaskTombstoneRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for managing {@link Task} operations.
@@ -27,8 +46,28 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int MAX_SUGGESTIONS = 20;
+
+    // Upper bound on the IN list of one bulk UPDATE statement
+    private static final int BULK_UPDATE_CHUNK = 1000;
+
+    // Most tasks one synchronous bulk transition may lock, matching the taskIds cap; larger moves go through a job
+    private static final int MAX_SYNC_TRANSITION = 1000;
+
+    // Sort keys accepted by queryTasks, mapped to entity properties; see queryTasks for the index behind each shape
+    private static final Map<String, String> SORTABLE = Map.of(
+            "id", "id",
+            "title", "title",
+            "status", "trackingStatus"
+    );
+
     private final TaskRepository taskRepository;
     private final PersonService personService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskTitlePrefixIndex taskTitlePrefixIndex;
+    private final ChangeSequence changeSequence;
+    private final TaskTombstoneRepository taskTombstoneRepository;
 
     /**
      * Creates a new task associated with a specific user.
@@ -38,61 +77,81 @@ public class TaskService {
      */
     @Transactional
     public TaskDto createTask(CreateTaskDto createTaskDto, Long userId) {
-        // Find the user by username
+        // Existence check; served from the person cache so no persons row is read
         PersonDto dto = personService.findById(userId);
 
         // Map CreateTaskDto to Task entity
         Task task = convertToEntity(createTaskDto);
 
-        // Create the Person entity from the DTO data
-        Person owner = new Person();
-        owner.setPersonId(Long.valueOf(dto.getPersonId()));
-
-        // Link Task to Person
-        task.setPerson(owner);
+        // Link Task to Person through a lazy reference, so no persons row is read
+        task.setPerson(personService.getReference(dto.getPersonId()));
 
         // Set the initial tracking status
         task.setTrackingStatus(Status.TO_DO);
+        task.setChangeSeq(changeSequence.next());
 
-        // Save and return
-        return convertToDto(taskRepository.save(task));
+        // Save, notify listeners and return; the owner columns come from the cached dto, not the reference
+        Task saved = taskRepository.save(task);
+        TaskDto created = new TaskDto(saved.getId(), saved.getTitle(), saved.getDescription(), saved.getTrackingStatus(),
+                dto.getPersonId(), dto.getUsername(), saved.getVersion());
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
     }
 
     /**
      * Updates an existing task's title, description, and status after verifying ownership.
+     * <p>
+     * The change is applied with one conditional UPDATE on the task's version, so concurrent editors never
+     * lock the row and never silently overwrite each other: the one that loses the race gets a
+     * {@link PreconditionFailedException}. The version is {@code details.getVersion()} when the client sends
+     * one, otherwise the version read here.
      * @param id The ID of the task to update.
      * @param details The updated task details.
      * @param userId The ID of the user requesting the update for ownership validation.
      * @return The updated task DTO.
      * @throws TaskNotFoundException if no task exists with the given ID.
      * @throws InvalidInputException if the user does not own the task.
+     * @throws PreconditionFailedException if the task has changed since the given version.
      */
     @Transactional
     public TaskDto updateTask(Long id, CreateTaskDto details, Long userId) {
-        // Check if Task exist
-        Task task = taskRepository.findById(id)
+        // Check if Task exist; a plain projection read, the UPDATE below does the concurrency check
+        TaskDto before = taskRepository.findDtosByIdIn(List.of(id)).stream()
+                .findFirst()
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
 
         // Ownership Check
-        if (!task.getPerson().getPersonId().equals(userId)) {
+        if (!before.getUserId().equals(userId)) {
             throw new InvalidInputException("You do not have permission to update this task.");
         }
 
-        // Check if update title is not the same
-        if (!details.getTitle().equalsIgnoreCase(task.getTitle())) {
-            task.setTitle(details.getTitle());
+        Long expectedVersion = details.getVersion() != null ? details.getVersion() : before.getVersion();
+        if (!expectedVersion.equals(before.getVersion())) {
+            throw staleVersion(id);
         }
 
+        // Check if update title is not the same
+        String title = details.getTitle().equalsIgnoreCase(before.getTitle()) ? before.getTitle() : details.getTitle();
+
         // Check if update description is not blank and not the same
-        if (!details.getDescription().isBlank() && !details.getDescription().equalsIgnoreCase(task.getDescription())) {
-            task.setDescription(details.getDescription());
-        }
+        String description = details.getDescription() != null && !details.getDescription().isBlank()
+                && !details.getDescription().equalsIgnoreCase(before.getDescription())
+                ? details.getDescription() : before.getDescription();
+
+        Status status = details.getTrackingStatus() != null ? details.getTrackingStatus() : before.getTrackingStatus();
 
-        if (details.getTrackingStatus() != null) {
-            task.setTrackingStatus(details.getTrackingStatus());
+        if (taskRepository.updateIfVersion(id, expectedVersion, title, description, status, changeSequence.next()) == 0) {
+            // Changed (or deleted) between the read above and the UPDATE
+            throw staleVersion(id);
         }
 
-        return convertToDto(taskRepository.save(task));
+        TaskDto updated = new TaskDto(id, title, description, status, before.getUserId(), before.getUsername(), expectedVersion + 1);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, updated));
+        return updated;
+    }
+
+    private static PreconditionFailedException staleVersion(Long id) {
+        return new PreconditionFailedException("Task " + id + " has been changed by someone else. Reload it and try again.");
     }
 
     /**
@@ -112,7 +171,108 @@ public class TaskService {
             throw new InvalidInputException("You do not have permission to delete this task.");
         }
 
+        TaskDto deleted = convertToDto(task);
         taskRepository.delete(task);
+        // Leave a tombstone so delta sync can report the delete
+        taskTombstoneRepository.insert(taskId, userId, changeSequence.next());
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(deleted));
+    }
+
+    /**
+     * Deletes up to one chunk of a user's tasks, leaving tombstones as {@link #deleteTask} does.
+     * Call repeatedly until it returns {@code 0} to delete every task of the user.
+     * @param userId The owner.
+     * @param chunkSize The maximum number of tasks to delete.
+     * @return The number of tasks deleted.
+     */
+    @Transactional
+    public int deleteTasksOf(Long userId, int chunkSize) {
+        List<Long> ids = taskRepository.findIdsByOwner(userId, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<TaskDto> deleted = taskRepository.findDtosByIdIn(ids);
+        taskRepository.deleteAllByIdInBatch(ids);
+        long changeSeq = changeSequence.next();
+        for (TaskDto task : deleted) {
+            taskTombstoneRepository.insert(task.getId(), userId, changeSeq);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
+        }
+        return deleted.size();
+    }
+
+    /**
+     * Moves a user's selected tasks to a new status with set-based statements.
+     * @param userId The owner; tasks of other users are skipped.
+     * @param request The selection and target status.
+     * @return Affected and skipped task IDs.
+     * @throws InvalidInputException if the selection is missing or ambiguous, or matches more than 1000 tasks by status.
+     */
+    @Transactional
+    public BulkStatusUpdateResultDto transitionMyTasks(Long userId, BulkStatusUpdateDto request) {
+        return transition(userId, request);
+    }
+
+    /**
+     * Admin: Moves selected tasks of any owner to a new status with set-based statements.
+     * @param ownerId Restrict to this owner, or {@code null} for all owners.
+     * @param request The selection and target status.
+     * @return Affected and skipped task IDs.
+     * @throws InvalidInputException if the selection is missing or ambiguous, or matches more than 1000 tasks by status.
+     */
+    @Transactional
+    public BulkStatusUpdateResultDto transitionTasks(Long ownerId, BulkStatusUpdateDto request) {
+        return transition(ownerId, request);
+    }
+
+    private BulkStatusUpdateResultDto transition(Long ownerId, BulkStatusUpdateDto request) {
+        boolean byIds = request.getTaskIds() != null && !request.getTaskIds().isEmpty();
+        if (byIds == (request.getCurrentStatus() != null)) {
+            throw new InvalidInputException("Select tasks either by taskIds or by currentStatus.");
+        }
+
+        Status target = request.getTargetStatus();
+
+        // Lock the rows that will change so the reported ids match what the UPDATE touches
+        List<TaskStatusRow> rows;
+        if (byIds) {
+            rows = taskRepository.lockForTransitionByIds(Set.copyOf(request.getTaskIds()), ownerId, target);
+        } else if (request.getCurrentStatus() == target) {
+            rows = List.of();
+        } else {
+            rows = taskRepository.lockForTransitionByStatus(request.getCurrentStatus(), ownerId, Limit.of(MAX_SYNC_TRANSITION + 1));
+            if (rows.size() > MAX_SYNC_TRANSITION) {
+                // Rolling back releases the locks taken so far
+                throw new InvalidInputException("More than " + MAX_SYNC_TRANSITION + " tasks are " + request.getCurrentStatus()
+                        + ". Select them by taskIds, at most " + MAX_SYNC_TRANSITION + " per request, or submit a transition job.");
+            }
+        }
+
+        Map<Long, Status> previous = new HashMap<>();
+        for (TaskStatusRow row : rows) {
+            previous.put(row.getId(), row.getStatus());
+        }
+
+        List<Long> affected = new ArrayList<>(previous.keySet());
+        affected.sort(null);
+        long changeSeq = affected.isEmpty() ? 0 : changeSequence.next();
+        for (int from = 0; from < affected.size(); from += BULK_UPDATE_CHUNK) {
+            taskRepository.updateStatus(affected.subList(from, Math.min(from + BULK_UPDATE_CHUNK, affected.size())), ownerId, target, changeSeq);
+        }
+
+        for (int from = 0; from < affected.size(); from += BULK_UPDATE_CHUNK) {
+            for (TaskDto after : taskRepository.findDtosByIdIn(affected.subList(from, Math.min(from + BULK_UPDATE_CHUNK, affected.size())))) {
+                TaskDto before = new TaskDto(after.getId(), after.getTitle(), after.getDescription(),
+                        previous.get(after.getId()), after.getUserId(), after.getUsername(), after.getVersion() - 1);
+                eventPublisher.publishEvent(TaskChangedEvent.updated(before, after));
+            }
+        }
+
+        List<Long> skipped = byIds
+                ? request.getTaskIds().stream().distinct().filter(id -> !previous.containsKey(id)).toList()
+                : List.of();
+        return new BulkStatusUpdateResultDto(target, affected, skipped);
     }
 
     /**
@@ -121,7 +281,7 @@ public class TaskService {
      * @return A page of all TaskDtos.
      */
     public Page<TaskDto> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.ALL, pageable);
     }
 
     /**
@@ -136,6 +296,17 @@ public class TaskService {
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
     }
 
+    /**
+     * Reads the version and owner of a task without loading it, to answer conditional requests.
+     * @param id The ID of the task.
+     * @return The version row.
+     * @throws TaskNotFoundException if the task does not exist.
+     */
+    public TaskVersionRow getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+    }
+
     /**
      * Retrieves all tasks for a specific user.
      * @param userId The ID of the owner.
@@ -143,7 +314,7 @@ public class TaskService {
      * @return A page of the user's TaskDtos
      */
     public Page<TaskDto> getTasksByUserId(Long userId, Pageable pageable) {
-        return taskRepository.findByPersonPersonId(userId, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.ownedBy(userId), pageable);
     }
 
     /**
@@ -153,7 +324,7 @@ public class TaskService {
      * @return A page of matching TaskDtos.
      */
     public Page<TaskDto> getMyTasksByTitle(Long userId, String queryTitle, Pageable pageable) {
-        return taskRepository.findByPersonPersonIdAndTitleContainsIgnoreCase(userId, queryTitle, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.of(userId, null, queryTitle), pageable);
     }
 
     /**
@@ -164,7 +335,7 @@ public class TaskService {
      * @return A page of matching TaskDtos.
      */
     public Page<TaskDto> getMyTasksByTitleAndStatus(Long userId, String queryTitle, Status status, Pageable pageable) {
-        return taskRepository.findByPersonPersonIdAndTrackingStatusAndTitleContainsIgnoreCase(userId, status, queryTitle, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.of(userId, status, queryTitle), pageable);
     }
 
     /**
@@ -174,7 +345,7 @@ public class TaskService {
      * @return A page of matching TaskDtos.
      */
     public Page<TaskDto> getTasksByTitle(String queryTitle, Pageable pageable) {
-        return taskRepository.findByTitleContainsIgnoreCase(queryTitle, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.of(null, null, queryTitle), pageable);
     }
 
     /**
@@ -185,7 +356,7 @@ public class TaskService {
      * @return A page of matching TaskDtos.
      */
     public Page<TaskDto> getTasksByTitleAndStatus(String queryTitle, Status status, Pageable pageable) {
-        return taskRepository.findByTrackingStatusAndTitleContainsIgnoreCase(status, queryTitle, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.of(null, status, queryTitle), pageable);
     }
 
     /**
@@ -196,7 +367,7 @@ public class TaskService {
      * @return A page of matching TaskDtos.
      */
     public Page<TaskDto> getTasksByUserIdAndStatus(Long userId, Status status, Pageable pageable) {
-        return taskRepository.findByPersonPersonIdAndTrackingStatus(userId, status, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.of(userId, status, null), pageable);
     }
 
     /**
@@ -206,18 +377,298 @@ public class TaskService {
      * @return A page of matching TaskDtos.
      */
     public Page<TaskDto> getTasksByStatus(Status status, Pageable pageable) {
-        return taskRepository.findByTrackingStatus(status, pageable).map(this::convertToDto);
+        return taskRepository.findPageByQuery(TaskQuery.of(null, status, null), pageable);
+    }
+
+    /**
+     * Retrieves tasks matching any combination of owner, statuses and title text in a single query.
+     * <p>
+     * Every accepted shape walks one index in sort order, with no filesort: owner and at most one status are
+     * index prefixes, followed by the sort column and id. Several statuses are only accepted with the {@code status}
+     * sort, whose index order they follow. The title substring never narrows the scan; it is checked on each row
+     * the index walk visits.
+     * @param query The filter; {@code null} components match everything.
+     * @param sort One of {@code id}, {@code title} or {@code status}.
+     * @param direction {@code asc} or {@code desc}.
+     * @param pageNumber Zero-based page index.
+     * @param size The page size.
+     * @param count Whether to also count all matching rows.
+     * @return A page of tasks when {@code count} is set, otherwise a slice.
+     * @throws InvalidInputException if the sort key or direction is not supported, or several statuses are
+     * combined with a sort other than {@code status}.
+     */
+    public Slice<TaskDto> queryTasks(TaskQuery query, String sort, String direction, int pageNumber, int size, boolean count) {
+        String property = SORTABLE.get(sort);
+        if (property == null) {
+            throw new InvalidInputException("Unsupported sort: " + sort + ". Use one of " + SORTABLE.keySet() + ".");
+        }
+
+        Sort.Direction order = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new InvalidInputException("Unsupported sort direction: " + direction + "."));
+
+        // Rows of several statuses only come out of an index in (status, id) order; any other order needs a filesort
+        if (query.statuses() != null && query.statuses().size() > 1 && !property.equals("trackingStatus")) {
+            throw new InvalidInputException("Several statuses can only be combined with sort=status.");
+        }
+
+        Pageable pageable = PageRequest.of(pageNumber, size, Sort.by(order, property));
+        return count ? taskRepository.findPageByQuery(query, pageable) : taskRepository.findSliceByQuery(query, pageable);
+    }
+
+    /**
+     * Full-text search over task titles and descriptions, ranked by relevance.
+     * @param query Free-text query; every term is matched independently.
+     * @param ownerId Restrict to this owner, or {@code null} for all owners.
+     * @param status Restrict to this status, or {@code null} for any status.
+     * @param pageNumber Zero-based page index.
+     * @param size The page size.
+     * @return Matching tasks, best match first.
+     * @throws InvalidInputException if the query has no searchable terms.
+     */
+    public List<TaskSearchHitDto> searchTasks(String query, Long ownerId, Status status, int pageNumber, int size) {
+        if (pageNumber < 0) {
+            throw new InvalidInputException("Page number must not be negative.");
+        }
+
+        List<TaskSearchIndex.Hit> hits = taskSearchIndex.search(query, ownerId, status, pageNumber * size, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskDto> tasks = new HashMap<>();
+        for (TaskDto task : taskRepository.findDtosByIdIn(hits.stream().map(TaskSearchIndex.Hit::taskId).toList())) {
+            tasks.put(task.getId(), task);
+        }
+
+        // Keep the index's ranking; skip hits whose row disappeared since they were indexed
+        List<TaskSearchHitDto> results = new ArrayList<>(hits.size());
+        for (TaskSearchIndex.Hit hit : hits) {
+            TaskDto task = tasks.get(hit.taskId());
+            if (task != null) {
+                results.add(new TaskSearchHitDto(task, hit.score()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Typeahead title suggestions for one user's tasks.
+     * @param userId The owner's ID.
+     * @param prefix What the user has typed so far.
+     * @param limit Maximum number of suggestions, capped at {@value #MAX_SUGGESTIONS}.
+     * @return Distinct titles starting with the prefix, ignoring case.
+     */
+    public List<String> suggestTitlesByUserId(Long userId, String prefix, int limit) {
+        return taskTitlePrefixIndex.suggest(userId, prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Typeahead title suggestions across all users' tasks.
+     * @param prefix What the user has typed so far.
+     * @param limit Maximum number of suggestions, capped at {@value #MAX_SUGGESTIONS}.
+     * @return Distinct titles starting with the prefix, ignoring case.
+     */
+    public List<String> suggestTitles(String prefix, int limit) {
+        return taskTitlePrefixIndex.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    // Slice variants: no COUNT(*) is issued, the client only learns whether another page exists.
+
+    /**
+     * Retrieves a slice of all tasks without counting the total.
+     * @param pageable The pagination information.
+     * @return A slice of all TaskDtos.
+     */
+    public Slice<TaskDto> getAllTasksSlice(Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.ALL, pageable);
+    }
+
+    /**
+     * Retrieves a slice of a user's tasks without counting the total.
+     * @param userId The ID of the owner.
+     * @param pageable The pagination information.
+     * @return A slice of the user's TaskDtos.
+     */
+    public Slice<TaskDto> getTasksByUserIdSlice(Long userId, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.ownedBy(userId), pageable);
+    }
+
+    /**
+     * Retrieves a slice of a user's tasks matching a title substring without counting the total.
+     * @param userId The ID of the owner.
+     * @param queryTitle {@link String} substring query.
+     * @param pageable {@link Pageable} The pagination information.
+     * @return A slice of matching TaskDtos.
+     */
+    public Slice<TaskDto> getMyTasksByTitleSlice(Long userId, String queryTitle, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.of(userId, null, queryTitle), pageable);
+    }
+
+    /**
+     * Retrieves a slice of a user's tasks matching status and a title substring without counting the total.
+     * @param userId The ID of the owner.
+     * @param queryTitle {@link String} substring query.
+     * @param status {@link Status} status to filter by.
+     * @param pageable {@link Pageable} The pagination information.
+     * @return A slice of matching TaskDtos.
+     */
+    public Slice<TaskDto> getMyTasksByTitleAndStatusSlice(Long userId, String queryTitle, Status status, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.of(userId, status, queryTitle), pageable);
+    }
+
+    /**
+     * Retrieves a slice of tasks matching a title substring without counting the total.
+     * @param queryTitle {@link String} substring query.
+     * @param pageable {@link Pageable} The pagination information.
+     * @return A slice of matching TaskDtos.
+     */
+    public Slice<TaskDto> getTasksByTitleSlice(String queryTitle, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.of(null, null, queryTitle), pageable);
+    }
+
+    /**
+     * Retrieves a slice of tasks matching status and a title substring without counting the total.
+     * @param queryTitle {@link String} substring query.
+     * @param status {@link Status} status to filter by.
+     * @param pageable {@link Pageable} The pagination information.
+     * @return A slice of matching TaskDtos.
+     */
+    public Slice<TaskDto> getTasksByTitleAndStatusSlice(String queryTitle, Status status, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.of(null, status, queryTitle), pageable);
+    }
+
+    /**
+     * Retrieves a slice of a user's tasks filtered by status without counting the total.
+     * @param userId   The ID of the task owner.
+     * @param status   The status to filter by.
+     * @param pageable The pagination information.
+     * @return A slice of matching TaskDtos.
+     */
+    public Slice<TaskDto> getTasksByUserIdAndStatusSlice(Long userId, Status status, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.of(userId, status, null), pageable);
+    }
+
+    /**
+     * Retrieves a slice of tasks filtered by status across all users without counting the total.
+     * @param status   The status to filter by.
+     * @param pageable The pagination information.
+     * @return A slice of matching TaskDtos.
+     */
+    public Slice<TaskDto> getTasksByStatusSlice(Status status, Pageable pageable) {
+        return taskRepository.findSliceByQuery(TaskQuery.of(null, status, null), pageable);
+    }
+
+    /**
+     * Retrieves the next page of all tasks after a cursor.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getAllTasksAfter(String cursor, int size) {
+        return toCursorPage(TaskQuery.ALL, cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of a user's tasks after a cursor.
+     * @param userId The ID of the owner.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getTasksByUserIdAfter(Long userId, String cursor, int size) {
+        return toCursorPage(TaskQuery.ownedBy(userId), cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of a user's tasks with the given status after a cursor.
+     * @param userId The ID of the owner.
+     * @param status The status to filter by.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getTasksByUserIdAndStatusAfter(Long userId, Status status, String cursor, int size) {
+        return toCursorPage(TaskQuery.of(userId, status, null), cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of tasks with the given status after a cursor.
+     * @param status The status to filter by.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getTasksByStatusAfter(Status status, String cursor, int size) {
+        return toCursorPage(TaskQuery.of(null, status, null), cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of tasks matching a title substring after a cursor.
+     * @param queryTitle {@link String} substring query.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getTasksByTitleAfter(String queryTitle, String cursor, int size) {
+        return toCursorPage(TaskQuery.of(null, null, queryTitle), cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of tasks matching status and a title substring after a cursor.
+     * @param queryTitle {@link String} substring query.
+     * @param status {@link Status} status to filter by.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getTasksByTitleAndStatusAfter(String queryTitle, Status status, String cursor, int size) {
+        return toCursorPage(TaskQuery.of(null, status, queryTitle), cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of a user's tasks matching a title substring after a cursor.
+     * @param userId The ID of the owner.
+     * @param queryTitle {@link String} substring query.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getMyTasksByTitleAfter(Long userId, String queryTitle, String cursor, int size) {
+        return toCursorPage(TaskQuery.of(userId, null, queryTitle), cursor, size);
+    }
+
+    /**
+     * Retrieves the next page of a user's tasks matching status and a title substring after a cursor.
+     * @param userId The ID of the owner.
+     * @param queryTitle {@link String} substring query.
+     * @param status {@link Status} status to filter by.
+     * @param cursor The cursor returned with the previous page, or {@code null} for the first page.
+     * @param size The page size.
+     * @return A cursor page of TaskDtos ordered by id.
+     */
+    public CursorPage<TaskDto> getMyTasksByTitleAndStatusAfter(Long userId, String queryTitle, Status status, String cursor, int size) {
+        return toCursorPage(TaskQuery.of(userId, status, queryTitle), cursor, size);
+    }
+
+    // Fetches size + 1 rows; the extra row only tells us whether another page exists
+    private CursorPage<TaskDto> toCursorPage(TaskQuery query, String cursor, int size) {
+        List<TaskDto> rows = taskRepository.findByQueryAfter(query, CursorCodec.decode(cursor), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<TaskDto> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(content.getLast().getId()) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
     }
 
-    // Mapping Methods
-    private TaskDto convertToDto(Task task) {
+    // Mapping Methods; package-private so the jmh benchmarks can measure it directly
+    TaskDto convertToDto(Task task) {
         return new TaskDto(
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
                 task.getTrackingStatus(),
                 task.getPerson() != null ? task.getPerson().getPersonId() : null,
-                task.getPerson() != null ? task.getPerson().getUsername() : null
+                task.getPerson() != null ? task.getPerson().getUsername() : null,
+                task.getVersion()
         );
     }
 
@@ -0,0 +1,188 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskTotalsDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.PersonStatusCount;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory task counts per (owner, status) and per status, for dashboards that must not query the database.
+ * <p>
+ * Counters are {@link LongAdder}s, so concurrent task changes do not contend on a single value. They are
+ * seeded from one grouped query at startup, moved by {@link TaskChangedEvent}s after each commit, and
+ * reconciled against the database every {@code tasks.stats.reconcile-interval} to repair any drift.
+ */
+@Component
+public class TaskStatusCounters {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final TaskRepository taskRepository;
+
+    private final Map<Long, LongAdder[]> byOwner = new ConcurrentHashMap<>();
+    private final LongAdder[] global = newCounters();
+
+    /**
+     * Instantiates a new Task status counters.
+     *
+     * @param taskRepository the task repository
+     */
+    public TaskStatusCounters(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Totals for one owner.
+     *
+     * @param ownerId the owner's person id
+     * @return the owner's task count per status; every status is present
+     */
+    public TaskTotalsDto totals(Long ownerId) {
+        LongAdder[] counters = byOwner.get(ownerId);
+        return counters == null ? toTotals(newCounters()) : toTotals(counters);
+    }
+
+    /**
+     * Totals over every owner.
+     *
+     * @return the task count per status; every status is present
+     */
+    public TaskTotalsDto totals() {
+        return toTotals(global);
+    }
+
+    /**
+     * Compares every counter with a grouped count from the database and corrects the difference.
+     * <p>
+     * Corrections are applied as deltas rather than overwrites, so changes counted while the query runs are kept.
+     * A change committed just before the query but counted just after it can still be off by one until the
+     * next reconcile.
+     *
+     * @return the sum of the absolute corrections, {@code 0} when nothing had drifted
+     */
+    public synchronized long reconcile() {
+        // Read what we believe before asking the database, then move each counter by the difference
+        Map<Long, long[]> believed = new HashMap<>();
+        byOwner.forEach((ownerId, counters) -> believed.put(ownerId, sums(counters)));
+        long[] believedGlobal = sums(global);
+
+        Map<Long, long[]> actual = new HashMap<>();
+        long[] actualGlobal = new long[STATUSES.length];
+        for (PersonStatusCount row : taskRepository.countByPersonAndStatus()) {
+            actual.computeIfAbsent(row.getPersonId(), id -> new long[STATUSES.length])[row.getStatus().ordinal()] = row.getTotal();
+            actualGlobal[row.getStatus().ordinal()] += row.getTotal();
+        }
+
+        long corrected = correct(global, believedGlobal, actualGlobal);
+        for (Map.Entry<Long, long[]> owner : actual.entrySet()) {
+            LongAdder[] counters = byOwner.computeIfAbsent(owner.getKey(), id -> newCounters());
+            corrected += correct(counters, believed.getOrDefault(owner.getKey(), new long[STATUSES.length]), owner.getValue());
+        }
+        for (Map.Entry<Long, long[]> owner : believed.entrySet()) {
+            if (!actual.containsKey(owner.getKey())) {
+                corrected += correct(byOwner.get(owner.getKey()), owner.getValue(), new long[STATUSES.length]);
+                // Owners left with no tasks are dropped so deleted users do not accumulate
+                byOwner.computeIfPresent(owner.getKey(), (id, counters) -> isZero(counters) ? null : counters);
+            }
+        }
+        return corrected;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void seedOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT5M}", initialDelayString = "${tasks.stats.reconcile-interval:PT5M}")
+    void reconcilePeriodically() {
+        reconcile();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onTaskChanged(TaskChangedEvent event) {
+        TaskDto before = event.before();
+        TaskDto after = event.after();
+        if (before != null && after != null
+                && before.getTrackingStatus() == after.getTrackingStatus() && before.getUserId().equals(after.getUserId())) {
+            return;
+        }
+
+        if (before != null) {
+            add(before.getUserId(), before.getTrackingStatus(), -1);
+        }
+        if (after != null) {
+            add(after.getUserId(), after.getTrackingStatus(), 1);
+        }
+    }
+
+    private void add(Long ownerId, Status status, long delta) {
+        byOwner.computeIfAbsent(ownerId, id -> newCounters())[status.ordinal()].add(delta);
+        global[status.ordinal()].add(delta);
+    }
+
+    private static long correct(LongAdder[] counters, long[] believed, long[] actual) {
+        long corrected = 0;
+        for (int i = 0; i < STATUSES.length; i++) {
+            long drift = actual[i] - believed[i];
+            if (drift != 0) {
+                counters[i].add(drift);
+                corrected += Math.abs(drift);
+            }
+        }
+        return corrected;
+    }
+
+    private static TaskTotalsDto toTotals(LongAdder[] counters) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        long total = 0;
+        for (Status status : STATUSES) {
+            long count = counters[status.ordinal()].sum();
+            byStatus.put(status, count);
+            total += count;
+        }
+        return new TaskTotalsDto(byStatus, total);
+    }
+
+    private static long[] sums(LongAdder[] counters) {
+        long[] sums = new long[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            sums[i] = counters[i].sum();
+        }
+        return sums;
+    }
+
+    private static boolean isZero(LongAdder[] counters) {
+        for (LongAdder counter : counters) {
+            if (counter.sum() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    // Number of owners with counters, for tests
+    int ownerCount() {
+        return byOwner.size();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskSyncDto;
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.model.TaskTombstone;
+import com.example.tasktrackingsystem.repository.TaskChangeRow;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.example.tasktrackingsystem.repository.TaskTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync: everything created, updated or deleted after a client's watermark.
+ * <p>
+ * Changed tasks and tombstones are each read with one index range scan on (change sequence, id) from the
+ * watermark on, and merged in that order. Reads stop at {@link ChangeSequence#stable()}, so a change that
+ * commits late with a lower sequence number is never skipped by a watermark that has already passed it.
+ * <p>
+ * Watermarks are not signed, so one past the stable number is rejected rather than trusted. Every watermark
+ * handed out names a change that is in the database, so after a restart the sequence, seeded from the database,
+ * is never behind a genuine watermark.
+ */
+@Service
+public class TaskSyncService {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final ChangeSequence changeSequence;
+    private final int batchSize;
+
+    /**
+     * Instantiates a new Task sync service.
+     *
+     * @param taskRepository          the task repository
+     * @param taskTombstoneRepository the task tombstone repository
+     * @param changeSequence          the change sequence
+     * @param batchSize               the maximum number of changes returned per call
+     */
+    public TaskSyncService(TaskRepository taskRepository, TaskTombstoneRepository taskTombstoneRepository,
+                           ChangeSequence changeSequence, @Value("${tasks.sync.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.changeSequence = changeSequence;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the next batch of changes after a watermark.
+     *
+     * @param ownerId   only changes to this owner's tasks, or {@code null} for every task
+     * @param watermark the watermark returned by the previous sync, or {@code null} for a full sync
+     * @return the changes and the watermark to continue from
+     * @throws InvalidInputException if the watermark is unreadable or ahead of the change sequence
+     */
+    @Transactional(readOnly = true)
+    public TaskSyncDto sync(Long ownerId, String watermark) {
+        CursorCodec.Watermark after = CursorCodec.decodeWatermark(watermark);
+        // Taken before reading, so every change at or below it is already visible
+        long upTo = changeSequence.stable();
+        if (after.seq() > upTo) {
+            throw new InvalidInputException("Invalid watermark.");
+        }
+
+        Limit limit = Limit.of(batchSize + 1);
+        List<TaskChangeRow> tasks = ownerId != null
+                ? taskRepository.findChangesByOwner(ownerId, after.seq(), after.id(), upTo, limit)
+                : taskRepository.findChanges(after.seq(), after.id(), upTo, limit);
+        List<TaskTombstone> tombstones = ownerId != null
+                ? taskTombstoneRepository.findChangesByOwner(ownerId, after.seq(), after.id(), upTo, limit)
+                : taskTombstoneRepository.findChanges(after.seq(), after.id(), upTo, limit);
+
+        // Merge both lists in (seq, id) order; task ids are never reused, so an id is in at most one of them
+        List<TaskDto> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        CursorCodec.Watermark last = after;
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < batchSize && (t < tasks.size() || d < tombstones.size())) {
+            boolean takeTask = d >= tombstones.size()
+                    || (t < tasks.size() && compare(tasks.get(t).getChangeSeq(), tasks.get(t).getId(),
+                    tombstones.get(d).getChangeSeq(), tombstones.get(d).getTaskId()) < 0);
+            if (takeTask) {
+                TaskChangeRow row = tasks.get(t++);
+                changed.add(convertRowToDto(row));
+                last = new CursorCodec.Watermark(row.getChangeSeq(), row.getId());
+            } else {
+                TaskTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone.getTaskId());
+                last = new CursorCodec.Watermark(tombstone.getChangeSeq(), tombstone.getTaskId());
+            }
+        }
+
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+        // Always the last change returned, never the stable number itself: that number may belong to a transaction
+        // that rolled back, and would be handed out again after a restart
+        return new TaskSyncDto(changed, deleted, CursorCodec.encodeWatermark(last), hasMore);
+    }
+
+    private static int compare(long seq, long id, long otherSeq, long otherId) {
+        int bySeq = Long.compare(seq, otherSeq);
+        return bySeq != 0 ? bySeq : Long.compare(id, otherId);
+    }
+
+    private static TaskDto convertRowToDto(TaskChangeRow row) {
+        return new TaskDto(row.getId(), row.getTitle(), row.getDescription(), row.getTrackingStatus(),
+                row.getUserId(), row.getUsername(), row.getVersion());
+    }
+}
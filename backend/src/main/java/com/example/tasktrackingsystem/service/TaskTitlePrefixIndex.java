@@ -0,0 +1,212 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Task;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted prefix index over case-folded task titles, used for typeahead suggestions.
+ * <p>
+ * Each owner has its own sorted map and one more map covers every owner. A lookup is a single
+ * range scan from the prefix, so the cost depends on the number of suggestions, not on the number of tasks.
+ * Tasks sharing a folded title share one entry with a reference count.
+ */
+@Component
+public class TaskTitlePrefixIndex {
+
+    private final TaskRepository taskRepository;
+    private final int rebuildBatchSize;
+
+    private final Map<Long, Indexed> byTaskId = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableMap<String, Suggestion>> byOwner = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Suggestion> global = new ConcurrentSkipListMap<>();
+
+    // Ids written by events while a rebuild is scanning; the rebuild must not overwrite them with older rows
+    private volatile Set<Long> touchedDuringRebuild;
+
+    /**
+     * Instantiates a new Task title prefix index.
+     *
+     * @param taskRepository   the task repository
+     * @param rebuildBatchSize rows read per query during a rebuild
+     */
+    public TaskTitlePrefixIndex(
+            TaskRepository taskRepository,
+            @Value("${search.rebuild.batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * Suggests titles of one owner's tasks.
+     *
+     * @param ownerId the owner's person id
+     * @param prefix  what the user has typed so far
+     * @param limit   maximum number of suggestions
+     * @return distinct titles starting with the prefix, ignoring case, in alphabetical order
+     */
+    public List<String> suggest(Long ownerId, String prefix, int limit) {
+        NavigableMap<String, Suggestion> titles = byOwner.get(ownerId);
+        return titles == null ? List.of() : scan(titles, prefix, limit);
+    }
+
+    /**
+     * Suggests titles across every owner's tasks.
+     *
+     * @param prefix what the user has typed so far
+     * @param limit  maximum number of suggestions
+     * @return distinct titles starting with the prefix, ignoring case, in alphabetical order
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return scan(global, prefix, limit);
+    }
+
+    /**
+     * Adds a task or moves it to its new title and owner.
+     *
+     * @param id      the task id
+     * @param ownerId the owner's person id
+     * @param title   the title
+     */
+    public void index(Long id, Long ownerId, String title) {
+        markTouched(id);
+        put(id, ownerId, title);
+    }
+
+    /**
+     * Removes a task.
+     *
+     * @param id the task id
+     */
+    public void remove(Long id) {
+        markTouched(id);
+        byTaskId.computeIfPresent(id, (key, previous) -> {
+            release(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Drops the index and reloads every task title from the database.
+     */
+    public synchronized void rebuild() {
+        touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            byTaskId.clear();
+            byOwner.clear();
+            global.clear();
+
+            long afterId = 0;
+            List<Task> batch;
+            do {
+                batch = taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(rebuildBatchSize));
+                for (Task task : batch) {
+                    if (!touchedDuringRebuild.contains(task.getId())) {
+                        put(task.getId(), task.getPerson().getPersonId(), task.getTitle());
+                    }
+                    afterId = task.getId();
+                }
+            } while (batch.size() == rebuildBatchSize);
+        } finally {
+            touchedDuringRebuild = null;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            remove(event.taskId());
+        } else {
+            TaskDto task = event.after();
+            index(task.getId(), task.getUserId(), task.getTitle());
+        }
+    }
+
+    private static List<String> scan(NavigableMap<String, Suggestion> titles, String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+
+        String key = fold(prefix);
+        List<String> result = new ArrayList<>(limit);
+        for (Map.Entry<String, Suggestion> entry : titles.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key) || result.size() == limit) {
+                break;
+            }
+            result.add(entry.getValue().title());
+        }
+        return result;
+    }
+
+    private void put(Long id, Long ownerId, String title) {
+        Indexed next = new Indexed(ownerId, fold(title), title);
+        byTaskId.compute(id, (key, previous) -> {
+            if (previous != null) {
+                if (previous.ownerId().equals(ownerId) && previous.key().equals(next.key())) {
+                    return previous;
+                }
+                release(previous);
+            }
+            acquire(byOwner.computeIfAbsent(ownerId, owner -> new ConcurrentSkipListMap<>()), next);
+            acquire(global, next);
+            return next;
+        });
+    }
+
+    private void release(Indexed indexed) {
+        decrement(global, indexed.key());
+        NavigableMap<String, Suggestion> titles = byOwner.get(indexed.ownerId());
+        if (titles != null) {
+            decrement(titles, indexed.key());
+        }
+    }
+
+    private static void acquire(NavigableMap<String, Suggestion> titles, Indexed indexed) {
+        titles.merge(indexed.key(), new Suggestion(indexed.title(), 1),
+                (current, added) -> new Suggestion(current.title(), current.count() + 1));
+    }
+
+    private static void decrement(NavigableMap<String, Suggestion> titles, String key) {
+        titles.computeIfPresent(key, (k, current) ->
+                current.count() == 1 ? null : new Suggestion(current.title(), current.count() - 1));
+    }
+
+    private void markTouched(Long id) {
+        Set<Long> touched = touchedDuringRebuild;
+        if (touched != null) {
+            touched.add(id);
+        }
+    }
+
+    private static String fold(String title) {
+        return title.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Indexed(Long ownerId, String key, String title) {
+    }
+
+    private record Suggestion(String title, int count) {
+    }
+}
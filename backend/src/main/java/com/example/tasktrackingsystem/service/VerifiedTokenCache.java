@@ -0,0 +1,200 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.AuthenticatedPerson;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in cache of already verified JWTs, keyed by the SHA-256 digest of the raw token.
+ * <p>
+ * The table is a fixed-size, direct-mapped {@link AtomicReferenceArray}: lookups and inserts are single
+ * volatile reads / writes with no locks, and memory is bounded by {@code security.jwt.cache.max-entries}.
+ * A colliding insert simply replaces the previous slot (counted as an eviction). Entries are only served
+ * until the token's own {@code exp}.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Instantiates a new Verified token cache.
+     *
+     * @param enabled    whether the cache is consulted at all
+     * @param maxEntries upper bound on cached tokens, rounded up to a power of two
+     */
+    public VerifiedTokenCache(
+            @Value("${security.jwt.cache.enabled:false}") boolean enabled,
+            @Value("${security.jwt.cache.max-entries:4096}") int maxEntries
+    ) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("security.jwt.cache.max-entries must be positive");
+        }
+        int capacity = Integer.highestOneBit(Math.max(1, maxEntries - 1)) << 1;
+        this.enabled = enabled;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached principal for the token if it was verified before and has not expired.
+     *
+     * @param token the raw token
+     * @return the cached entry, or empty on a miss (always empty when disabled)
+     */
+    public Optional<Entry> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        long[] digest = digest(token);
+        int index = (int) digest[0] & mask;
+        Entry entry = slots.get(index);
+
+        if (entry != null && entry.matches(digest)) {
+            if (entry.expiresAtMillis() > System.currentTimeMillis()) {
+                hits.increment();
+                return Optional.of(entry);
+            }
+            if (slots.compareAndSet(index, entry, null)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a freshly verified token.
+     *
+     * @param token       the raw token
+     * @param person      the verified principal
+     * @param authorities the authorities granted to it
+     */
+    public void put(String token, AuthenticatedPerson person, List<? extends GrantedAuthority> authorities) {
+        if (!enabled) {
+            return;
+        }
+
+        long[] digest = digest(token);
+        Entry entry = new Entry(
+                digest[0], digest[1], digest[2], digest[3],
+                person,
+                List.copyOf(authorities),
+                person.expiresAt().toEpochMilli()
+        );
+
+        Entry previous = slots.getAndSet((int) digest[0] & mask, entry);
+        if (previous != null && !previous.matches(digest)) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Is enabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hit count long.
+     *
+     * @return the long
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Miss count long.
+     *
+     * @return the long
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Eviction count long.
+     *
+     * @return the long
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("security.jwt.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Verified-token cache lookups")
+                .register(registry);
+        FunctionCounter.builder("security.jwt.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Verified-token cache lookups")
+                .register(registry);
+        FunctionCounter.builder("security.jwt.cache.evictions", evictions, LongAdder::sum)
+                .description("Entries dropped by expiry or slot collision")
+                .register(registry);
+    }
+
+    private static long[] digest(String token) {
+        MessageDigest sha = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(sha.digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new long[]{hash.getLong(0), hash.getLong(8), hash.getLong(16), hash.getLong(24)};
+    }
+
+    /**
+     * A cached verification result.
+     *
+     * @param d0              digest word 0
+     * @param d1              digest word 1
+     * @param d2              digest word 2
+     * @param d3              digest word 3
+     * @param person          the verified principal
+     * @param authorities     the granted authorities
+     * @param expiresAtMillis the token expiry in epoch millis
+     */
+    public record Entry(
+            long d0, long d1, long d2, long d3,
+            AuthenticatedPerson person,
+            List<GrantedAuthority> authorities,
+            long expiresAtMillis
+    ) {
+        private boolean matches(long[] digest) {
+            return d0 == digest[0] && d1 == digest[1] && d2 == digest[2] && d3 == digest[3];
+        }
+    }
+}
@@ -0,0 +1,22 @@
+-- Baseline: the schema Hibernate used to generate from Person and Task.
+-- Databases created before migrations were introduced are baselined at this version and skip it.
+
+CREATE TABLE persons (
+    person_id BIGINT       NOT NULL AUTO_INCREMENT,
+    full_name VARCHAR(100) NOT NULL,
+    role      VARCHAR(8)   NOT NULL,
+    username  VARCHAR(50)  NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (person_id),
+    CONSTRAINT uk_persons_username UNIQUE (username)
+);
+
+CREATE TABLE tasks (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT,
+    tracking_status VARCHAR(16)  NOT NULL,
+    person_id       BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_person FOREIGN KEY (person_id) REFERENCES persons (person_id)
+);
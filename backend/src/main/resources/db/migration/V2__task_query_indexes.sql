@@ -0,0 +1,15 @@
+-- Indexes for the TaskRepository query shapes. persons.username is already covered by uk_persons_username
+-- (findByUsername, existsByUsername, existsByUsernameAndPersonIdNot).
+
+-- findByPersonPersonId[AndTrackingStatus]..., keyset variants (person_id, status, id > ?),
+-- and countByStatusForPerson, which this index covers without touching table rows
+CREATE INDEX idx_tasks_person_status_id ON tasks (person_id, tracking_status, id);
+
+-- findByPersonPersonIdAndTitleContainsIgnoreCase... and owner listings sorted by title
+CREATE INDEX idx_tasks_person_title_id ON tasks (person_id, title, id);
+
+-- findByTrackingStatus..., keyset variants and countByStatus
+CREATE INDEX idx_tasks_status_id ON tasks (tracking_status, id);
+
+-- Admin listings sorted by title; substring filters scan this narrower index instead of the table
+CREATE INDEX idx_tasks_title_id ON tasks (title, id);
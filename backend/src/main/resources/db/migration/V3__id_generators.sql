@@ -0,0 +1,12 @@
+-- Block id allocation for Task and Person (@TableGenerator, pooled optimizer).
+-- next_val is the upper end of the next block, so it is seeded one allocation size past the current maximum id.
+-- The AUTO_INCREMENT attribute stays on the id columns for rows inserted outside the application.
+
+CREATE TABLE id_generators (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_generators (name, next_val) SELECT 'tasks', COALESCE(MAX(id), 0) + 100 FROM tasks;
+INSERT INTO id_generators (name, next_val) SELECT 'persons', COALESCE(MAX(person_id), 0) + 50 FROM persons;
@@ -0,0 +1,4 @@
+-- User directory: prefix search and keyset pages ordered by full name.
+-- Username prefix search and paging use the existing unique index on username.
+
+CREATE INDEX idx_persons_full_name_id ON persons (full_name, person_id);
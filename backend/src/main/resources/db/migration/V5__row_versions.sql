@@ -0,0 +1,4 @@
+-- Optimistic-lock versions for tasks and persons. They are incremented on every update and drive the ETags.
+
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE persons ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- Delta sync: every task write is stamped with a change sequence number, and deletes leave a tombstone.
+-- Existing tasks keep 0, so a client syncing from scratch still receives them.
+
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_tasks_change_seq_id ON tasks (change_seq, id);
+CREATE INDEX idx_tasks_person_change_seq_id ON tasks (person_id, change_seq, id);
+
+CREATE TABLE task_tombstones (
+    task_id    BIGINT NOT NULL,
+    person_id  BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstones_change_seq_id ON task_tombstones (change_seq, task_id);
+CREATE INDEX idx_task_tombstones_person_change_seq_id ON task_tombstones (person_id, change_seq, task_id);
@@ -0,0 +1,23 @@
+-- Background jobs for admin operations that are too long for one request (see JobService).
+-- Rows keep their state and progress so admins can poll them; finished jobs are purged after the retention period.
+
+CREATE TABLE jobs (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    type             VARCHAR(32)   NOT NULL,
+    status           VARCHAR(16)   NOT NULL,
+    requested_by     BIGINT        NOT NULL,
+    parameters       VARCHAR(1000),
+    progress         BIGINT        NOT NULL DEFAULT 0,
+    total            BIGINT,
+    summary          VARCHAR(1000),
+    error            VARCHAR(1000),
+    result_file      VARCHAR(255),
+    cancel_requested BOOLEAN       NOT NULL DEFAULT FALSE,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    started_at       TIMESTAMP(6)  NULL,
+    finished_at      TIMESTAMP(6)  NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_jobs_status_id ON jobs (status, id);
+CREATE INDEX idx_jobs_finished_at ON jobs (finished_at);
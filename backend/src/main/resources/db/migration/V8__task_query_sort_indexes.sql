@@ -0,0 +1,11 @@
+-- Remaining /query shapes that V2 left to a filesort. Several statuses are only accepted with the status sort,
+-- which (person_id, tracking_status, id) and (tracking_status, id) already serve.
+
+-- Owner listings sorted by id without a status filter
+CREATE INDEX idx_tasks_person_id ON tasks (person_id, id);
+
+-- One status sorted by title
+CREATE INDEX idx_tasks_status_title_id ON tasks (tracking_status, title, id);
+
+-- One owner and one status sorted by title
+CREATE INDEX idx_tasks_person_status_title_id ON tasks (person_id, tracking_status, title, id);
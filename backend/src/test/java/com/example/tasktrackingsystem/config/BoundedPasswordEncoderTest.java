@@ -0,0 +1,70 @@
+package com.example.tasktrackingsystem.config;
+
+import com.example.tasktrackingsystem.exceptions.PasswordHashingBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("Delegates hashing and verification to the wrapped encoder")
+    void matches_DelegatesToWrappedEncoder() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PlainEncoder(null), 1, 1, 2);
+
+        assertEquals("{plain}password", encoder.encode("password"));
+        assertTrue(encoder.matches("password", "{plain}password"));
+        assertFalse(encoder.matches("other", "{plain}password"));
+
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Rejects callers once the pool and wait queue are full")
+    void encode_QueueFull_ThrowsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PlainEncoder(release), 1, 1, 3);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.queueDepth() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        PasswordHashingBusyException ex = assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        assertEquals(3, ex.getRetryAfterSeconds());
+
+        release.countDown();
+        assertEquals("{plain}first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("{plain}second", queued.get(5, TimeUnit.SECONDS));
+
+        encoder.destroy();
+    }
+
+    private record PlainEncoder(CountDownLatch gate) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return ("{plain}" + rawPassword).equals(encodedPassword);
+        }
+    }
+}
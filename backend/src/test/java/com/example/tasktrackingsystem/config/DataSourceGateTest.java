@@ -0,0 +1,85 @@
+package com.example.tasktrackingsystem.config;
+
+import com.example.tasktrackingsystem.exceptions.DatabaseBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DataSourceGateTest {
+
+    @Test
+    @DisplayName("Closing a connection hands its permit back, once")
+    void getConnection_Close_ReleasesPermit() throws Exception {
+        DataSourceGate gate = new DataSourceGate(2, Duration.ofMillis(50), 1);
+        DataSource dataSource = gate.wrap(pool());
+
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertEquals(2, gate.active());
+
+        first.close();
+        first.close();
+        assertEquals(1, gate.active());
+
+        second.close();
+        assertEquals(0, gate.active());
+    }
+
+    @Test
+    @DisplayName("Callers give up with a busy error once every permit is held past the wait limit")
+    void getConnection_GateFull_ThrowsBusy() throws Exception {
+        DataSourceGate gate = new DataSourceGate(1, Duration.ofMillis(50), 4);
+        DataSource dataSource = gate.wrap(pool());
+
+        Connection held = dataSource.getConnection();
+
+        DatabaseBusyException ex = assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+        assertEquals(4, ex.getRetryAfterSeconds());
+
+        held.close();
+        assertNotNull(dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("A connection the pool fails to hand out does not keep its permit")
+    void getConnection_PoolFails_ReleasesPermit() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        DataSourceGate gate = new DataSourceGate(1, Duration.ofMillis(50), 1);
+
+        assertThrows(SQLException.class, () -> gate.wrap(pool).getConnection());
+        assertEquals(0, gate.active());
+    }
+
+    @Test
+    @DisplayName("A connection opened while the same thread holds a permit skips the gate")
+    void getConnection_Nested_DoesNotWaitForPermit() throws Exception {
+        DataSourceGate gate = new DataSourceGate(1, Duration.ofMillis(50), 1);
+        DataSource dataSource = gate.wrap(pool());
+
+        Connection outer = dataSource.getConnection();
+        // Like Hibernate's isolated id-generator connection: would deadlock on a full gate if it needed a permit
+        Connection nested = dataSource.getConnection();
+        nested.close();
+        assertEquals(1, gate.active());
+
+        outer.close();
+        assertEquals(0, gate.active());
+        Connection next = dataSource.getConnection();
+        assertEquals(1, gate.active());
+        next.close();
+    }
+
+    private static DataSource pool() throws SQLException {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        return pool;
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.tasktrackingsystem.controllers;
 
 import com.example.tasktrackingsystem.controllerhandlier.GlobalExceptionHandler;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateResultDto;
 import com.example.tasktrackingsystem.dto.CreateTaskDto;
 import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskTotalsDto;
 import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.exceptions.ExportBusyException;
 import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.TaskVersionRow;
 import com.example.tasktrackingsystem.service.JwtService;
 import com.example.tasktrackingsystem.service.PersonService;
+import com.example.tasktrackingsystem.service.TaskEventBroadcaster;
+import com.example.tasktrackingsystem.service.TaskExportService;
+import com.example.tasktrackingsystem.service.TaskImportService;
 import com.example.tasktrackingsystem.service.TaskService;
+import com.example.tasktrackingsystem.service.TaskStatusCounters;
+import com.example.tasktrackingsystem.service.TaskSyncService;
+import com.example.tasktrackingsystem.service.VerifiedTokenCache;
 import com.example.tasktrackingsystem.config.SecurityConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,19 +29,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
@@ -51,12 +73,30 @@ public class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskExportService taskExportService;
+
+    @MockitoBean
+    private TaskStatusCounters taskStatusCounters;
+
+    @MockitoBean
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @MockitoBean
+    private TaskSyncService taskSyncService;
+
     @MockitoBean
     private JwtService jwtService;
 
     @MockitoBean
     private PersonService personService;
 
+    @MockitoBean
+    private VerifiedTokenCache verifiedTokenCache;
+
     private ObjectMapper objectMapper;
     private TaskDto mockTaskDto;
     private CreateTaskDto createTaskDto;
@@ -64,7 +104,7 @@ public class TaskControllerTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        mockTaskDto = new TaskDto(1L, "Test Task", "Description", Status.TO_DO, 1L);
+        mockTaskDto = new TaskDto(1L, "Test Task", "Description", Status.TO_DO, 1L, "user", 0L);
         createTaskDto = new CreateTaskDto("Test Task", "Description", Status.TO_DO);
     }
 
@@ -89,6 +129,19 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("Test Task"));
     }
 
+    @Test
+    @DisplayName("GET /api/tasks/paginated/0?count=false - Uses the count-free slice")
+    void getAllTasks_WithoutCount_ReturnsSlice() throws Exception {
+        when(taskService.getAllTasksSlice(any())).thenReturn(new SliceImpl<>(List.of(mockTaskDto)));
+
+        mockMvc.perform(get("/api/tasks/paginated/0")
+                        .param("count", "false")
+                        .with(authentication(getAuth("ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
     // TC_002: Retrieve task by valid ID
     @Test
     @DisplayName("TC_002: GET /api/tasks/{id} - Valid ID returns 200")
@@ -99,7 +152,57 @@ public class TaskControllerTest {
                         .with(authentication(getAuth("USER"))))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
-                .andExpect(jsonPath("$.title").value("Test Task"));
+                .andExpect(jsonPath("$.title").value("Test Task"))
+                .andExpect(header().string("ETag", ETags.task(mockTaskDto)))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Matching If-None-Match returns 304 from the version lookup alone")
+    void getTaskById_Unchanged_ReturnsNotModified() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(versionRow(0L, "user"));
+
+        mockMvc.perform(get("/api/tasks/1")
+                        .header("If-None-Match", ETags.task(mockTaskDto))
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETags.task(mockTaskDto)))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} - Stale If-None-Match returns the changed task")
+    void getTaskById_Changed_ReturnsOk() throws Exception {
+        TaskDto changed = new TaskDto(1L, "Renamed", "Description", Status.TO_DO, 1L, "user", 1L);
+        when(taskService.getTaskVersion(1L)).thenReturn(versionRow(1L, "user"));
+        when(taskService.getTaskById(1L)).thenReturn(changed);
+
+        mockMvc.perform(get("/api/tasks/1")
+                        .header("If-None-Match", ETags.task(mockTaskDto))
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(header().string("ETag", ETags.task(changed)));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/my-tasks/paginated/0 - Revalidating an unchanged page returns 304")
+    void getMyTasks_Unchanged_ReturnsNotModified() throws Exception {
+        when(taskService.getTasksByUserId(eq(1L), any())).thenReturn(new PageImpl<>(List.of(mockTaskDto)));
+
+        String etag = mockMvc.perform(get("/api/tasks/my-tasks/paginated/0")
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/tasks/my-tasks/paginated/0")
+                        .header("If-None-Match", etag)
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     // TC_003: Retrieve task by invalid ID
@@ -159,6 +262,41 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Task"));
     }
 
+    @Test
+    @DisplayName("PUT /api/tasks/{id} - Stale If-Match returns 412 without updating")
+    void updateTask_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(versionRow(2L, "user"));
+
+        mockMvc.perform(put("/api/tasks/1")
+                        .with(csrf())
+                        .with(authentication(getAuth("USER")))
+                        .header("If-Match", ETags.task(mockTaskDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTaskDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("VERSION_CONFLICT"));
+
+        verify(taskService, never()).updateTask(anyLong(), any(CreateTaskDto.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("PUT /api/tasks/{id} - Current If-Match passes its version to the conditional update")
+    void updateTask_CurrentIfMatch_ReturnsNewETag() throws Exception {
+        TaskDto updated = new TaskDto(1L, "Test Task", "Description", Status.TO_DO, 1L, "user", 1L);
+        when(taskService.getTaskVersion(1L)).thenReturn(versionRow(0L, "user"));
+        when(taskService.updateTask(eq(1L), argThat(details -> Long.valueOf(0L).equals(details.getVersion())), eq(1L)))
+                .thenReturn(updated);
+
+        mockMvc.perform(put("/api/tasks/1")
+                        .with(csrf())
+                        .with(authentication(getAuth("USER")))
+                        .header("If-Match", ETags.task(mockTaskDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTaskDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETags.task(updated)));
+    }
+
     // TC_007: Update non-existing task
     @Test
     @DisplayName("TC_007: PUT /api/tasks/{id} - Invalid ID returns 404")
@@ -220,4 +358,146 @@ public class TaskControllerTest {
                         .with(authentication(getAuth("USER"))))
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("PATCH /api/tasks/my-tasks/status - Reports affected and skipped ids")
+    void transitionMyTasks_ValidRequest_ReturnsOk() throws Exception {
+        BulkStatusUpdateDto request = new BulkStatusUpdateDto(List.of(1L, 2L), null, Status.COMPLETED);
+        when(taskService.transitionMyTasks(eq(1L), any(BulkStatusUpdateDto.class)))
+                .thenReturn(new BulkStatusUpdateResultDto(Status.COMPLETED, List.of(1L), List.of(2L)));
+
+        mockMvc.perform(patch("/api/tasks/my-tasks/status")
+                        .with(csrf())
+                        .with(authentication(getAuth("USER")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected[0]").value(1))
+                .andExpect(jsonPath("$.skipped[0]").value(2));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/tasks/status - USER role returns 403")
+    void transitionTasks_UserRole_ReturnsForbidden() throws Exception {
+        BulkStatusUpdateDto request = new BulkStatusUpdateDto(null, Status.TO_DO, Status.IN_PROGRESS);
+
+        mockMvc.perform(patch("/api/tasks/status")
+                        .with(csrf())
+                        .with(authentication(getAuth("USER")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/my-tasks/export - Streams gzip-compressed NDJSON when accepted")
+    void exportMyTasks_AcceptsGzip_StreamsCompressed() throws Exception {
+        when(taskExportService.export(any(), eq(TaskExportService.Format.NDJSON), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult started = mockMvc.perform(get("/api/tasks/my-tasks/export")
+                        .with(authentication(getAuth("USER")))
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertEquals("{\"id\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/my-tasks/export - Returns 503 with Retry-After when every export slot is taken")
+    void exportMyTasks_SlotsTaken_ReturnsServiceUnavailable() throws Exception {
+        when(taskExportService.reserveStream()).thenThrow(new ExportBusyException("Too many exports are running.", 5));
+
+        mockMvc.perform(get("/api/tasks/my-tasks/export")
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+
+        verify(taskExportService, never()).export(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/export - USER role returns 403")
+    void exportTasks_UserRole_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/tasks/export")
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(taskExportService);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding parsing honours q=0")
+    void acceptsGzip_HonoursQualityZero() {
+        assertTrue(TaskController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(TaskController.acceptsGzip("*"));
+        assertFalse(TaskController.acceptsGzip("gzip;q=0, identity"));
+        assertFalse(TaskController.acceptsGzip("br"));
+        assertFalse(TaskController.acceptsGzip(null));
+    }
+
+    @Test
+    @DisplayName("If-None-Match parsing accepts lists, weak tags and *")
+    void etagMatches_HandlesListsAndWeakTags() {
+        String etag = ETags.task(1L, 3L, "user");
+        assertTrue(ETags.matches("\"other\", " + etag, etag));
+        assertTrue(ETags.matches("W/" + etag, etag));
+        assertTrue(ETags.matches("*", etag));
+        assertFalse(ETags.matches(ETags.task(1L, 2L, "user"), etag));
+        assertFalse(ETags.matches(ETags.task(1L, 3L, "renamed"), etag));
+        assertFalse(ETags.matches(null, etag));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/my-tasks/stats - Answers from the in-memory counters")
+    void getMyTaskStats_ReturnsCounters() throws Exception {
+        when(taskStatusCounters.totals(1L)).thenReturn(new TaskTotalsDto(Map.of(Status.TO_DO, 2L), 2));
+
+        mockMvc.perform(get("/api/tasks/my-tasks/stats")
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.TO_DO").value(2))
+                .andExpect(jsonPath("$.total").value(2));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/my-tasks/totals - Answers from the same counters as /stats")
+    void getMyTaskTotals_ReturnsCounters() throws Exception {
+        when(taskStatusCounters.totals(1L)).thenReturn(new TaskTotalsDto(Map.of(Status.TO_DO, 2L), 2));
+
+        mockMvc.perform(get("/api/tasks/my-tasks/totals")
+                        .with(authentication(getAuth("USER"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2));
+
+        verifyNoInteractions(taskService);
+    }
+
+    private static TaskVersionRow versionRow(Long version, String username) {
+        return new TaskVersionRow() {
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Role;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the grouped workload query: counts per status, ordering, keyset continuation and statement count.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:workload;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class PersonRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    private Statistics statistics;
+    private final List<Long> personIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Owner 0: 3 tasks (1 open), owner 1: 2 tasks (2 open), owner 2: 2 tasks (2 open), owner 3: none
+        Status[][] tasks = {
+                {Status.COMPLETED, Status.COMPLETED, Status.TO_DO},
+                {Status.TO_DO, Status.IN_PROGRESS},
+                {Status.IN_PROGRESS, Status.IN_PROGRESS},
+                {}
+        };
+        for (int owner = 0; owner < tasks.length; owner++) {
+            Person person = new Person(null, "Workload Owner " + owner, Role.USER, "workload_" + owner, "password123", null);
+            entityManager.persist(person);
+            personIds.add(person.getPersonId());
+            for (Status status : tasks[owner]) {
+                entityManager.persist(Task.builder().title("Task").trackingStatus(status).person(person).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Workload by total is one grouped statement, busiest first, including people without tasks")
+    void findWorkloadByTotal_OneStatement() {
+        List<PersonWorkloadRow> rows = personRepository.findWorkloadByTotal(Long.MAX_VALUE, 0L, Limit.of(10));
+
+        assertEquals(List.of(personIds.get(0), personIds.get(1), personIds.get(2), personIds.get(3)),
+                rows.stream().map(PersonWorkloadRow::getPersonId).toList());
+        assertEquals(2, rows.get(0).getCompleted());
+        assertEquals(1, rows.get(0).getOpen());
+        assertEquals(3, rows.get(0).getTotal());
+        assertEquals(0, rows.get(3).getTotal());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Workload by open continues after the keyset, breaking ties by id")
+    void findWorkloadByOpen_ContinuesAfterKey() {
+        List<PersonWorkloadRow> first = personRepository.findWorkloadByOpen(Long.MAX_VALUE, 0L, Limit.of(1));
+        PersonWorkloadRow last = first.getLast();
+        List<PersonWorkloadRow> rest = personRepository.findWorkloadByOpen(last.getOpen(), last.getPersonId(), Limit.of(10));
+
+        assertEquals(personIds.get(1), last.getPersonId());
+        assertEquals(List.of(personIds.get(2), personIds.get(0), personIds.get(3)),
+                rest.stream().map(PersonWorkloadRow::getPersonId).toList());
+        assertEquals(2, rest.get(0).getInProgress());
+    }
+}
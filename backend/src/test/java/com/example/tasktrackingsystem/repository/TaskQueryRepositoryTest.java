@@ -0,0 +1,118 @@
+package com.example.tasktrackingsystem.repository;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Role;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of SQL statements each list read issues, so owner lookups cannot creep back in per row.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:projection;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class TaskQueryRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Statistics statistics;
+    private Long firstOwnerId;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Three owners so an entity read path would need three extra person selects per page
+        for (int owner = 0; owner < 3; owner++) {
+            Person person = new Person(null, "Projection Owner " + owner, Role.USER, "projection_" + owner, "password123", null);
+            entityManager.persist(person);
+            if (firstOwnerId == null) {
+                firstOwnerId = person.getPersonId();
+            }
+
+            for (int i = 0; i < 4; i++) {
+                Task task = Task.builder().title("Task " + owner + "-" + i).trackingStatus(Status.TO_DO).person(person).build();
+                entityManager.persist(task);
+                taskIds.add(task.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("A counted page costs one select and one count")
+    void findPageByQuery_TwoStatements() {
+        Page<TaskDto> page = taskRepository.findPageByQuery(TaskQuery.ALL, PageRequest.of(0, 10));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(12, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(task -> task.getUsername() != null));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("A slice costs one select")
+    void findSliceByQuery_OneStatement() {
+        Slice<TaskDto> slice = taskRepository.findSliceByQuery(TaskQuery.of(null, Status.TO_DO, "task"), PageRequest.of(0, 5));
+
+        assertEquals(5, slice.getContent().size());
+        assertTrue(slice.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("A keyset page costs one select")
+    void findByQueryAfter_OneStatement() {
+        List<TaskDto> rows = taskRepository.findByQueryAfter(TaskQuery.ownedBy(firstOwnerId), taskIds.get(0), 10);
+
+        assertEquals(3, rows.size());
+        assertEquals(taskIds.get(1), rows.get(0).getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Loading search hits by id costs one select")
+    void findDtosByIdIn_OneStatement() {
+        List<TaskDto> rows = taskRepository.findDtosByIdIn(List.of(taskIds.get(0), taskIds.get(5), taskIds.get(11)));
+
+        assertEquals(3, rows.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
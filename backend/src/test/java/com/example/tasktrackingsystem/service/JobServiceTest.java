@@ -0,0 +1,165 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateResultDto;
+import com.example.tasktrackingsystem.dto.JobDto;
+import com.example.tasktrackingsystem.exceptions.JobQueueFullException;
+import com.example.tasktrackingsystem.model.Job;
+import com.example.tasktrackingsystem.model.JobStatus;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.JobRepository;
+import com.example.tasktrackingsystem.repository.TaskQuery;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+public class JobServiceTest {
+
+    private JobRepository jobRepository;
+    private TaskService taskService;
+    private TaskSearchIndex taskSearchIndex;
+    private TaskTitlePrefixIndex taskTitlePrefixIndex;
+    private TaskExportService taskExportService;
+    private Set<Long> cancelRequested;
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        taskService = mock(TaskService.class);
+        taskSearchIndex = mock(TaskSearchIndex.class);
+        taskTitlePrefixIndex = mock(TaskTitlePrefixIndex.class);
+        taskExportService = mock(TaskExportService.class);
+
+        // Hand out ids the way the identity column would
+        AtomicLong ids = new AtomicLong();
+        Map<Long, Job> saved = new ConcurrentHashMap<>();
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> {
+            Job job = invocation.getArgument(0);
+            job.setId(ids.incrementAndGet());
+            saved.put(job.getId(), job);
+            return job;
+        });
+        when(jobRepository.findById(anyLong())).thenAnswer(invocation -> Optional.ofNullable(saved.get(invocation.<Long>getArgument(0))));
+        when(jobRepository.markRunning(anyLong(), any())).thenReturn(1);
+
+        // The cancel flag lives in the jobs row; progress is only recorded while it is clear
+        cancelRequested = ConcurrentHashMap.newKeySet();
+        when(jobRepository.requestCancel(anyLong())).thenAnswer(invocation -> cancelRequested.add(invocation.getArgument(0)) ? 1 : 0);
+        when(jobRepository.updateProgress(anyLong(), anyLong(), any())).thenAnswer(invocation -> cancelRequested.contains(invocation.<Long>getArgument(0)) ? 0 : 1);
+
+        jobService = new JobService(jobRepository, mock(TaskRepository.class), taskService, mock(PersonService.class),
+                taskExportService, taskSearchIndex, taskTitlePrefixIndex,
+                1, 1, 2, System.getProperty("java.io.tmpdir"), Duration.ofDays(7), 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.destroy();
+    }
+
+    @Test
+    @DisplayName("A bulk status change runs one transaction per chunk and records progress")
+    void transitionTasks_ByIds_RunsInChunks() {
+        when(taskService.transitionTasks(isNull(), any(BulkStatusUpdateDto.class))).thenAnswer(invocation -> {
+            BulkStatusUpdateDto chunk = invocation.getArgument(1);
+            return new BulkStatusUpdateResultDto(Status.COMPLETED, chunk.getTaskIds(), List.of());
+        });
+
+        JobDto job = jobService.transitionTasks(1L, null, new BulkStatusUpdateDto(List.of(1L, 2L, 3L), null, Status.COMPLETED));
+
+        assertEquals(JobStatus.QUEUED, job.getStatus());
+        verify(jobRepository, timeout(5000)).finish(eq(job.getId()), eq(JobStatus.SUCCEEDED), eq("Moved 3 tasks to COMPLETED"),
+                isNull(), isNull(), any());
+        // Chunk size 2: one full chunk and one remainder
+        verify(taskService, times(2)).transitionTasks(isNull(), any(BulkStatusUpdateDto.class));
+        verify(jobRepository).updateProgress(job.getId(), 2L, 3L);
+        verify(jobRepository).updateProgress(job.getId(), 3L, 3L);
+    }
+
+    @Test
+    @DisplayName("A running job stops at its next checkpoint once cancelled")
+    void cancel_Running_StopsAtCheckpoint() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(taskSearchIndex).rebuild();
+
+        JobDto job = jobService.rebuildIndexes(1L);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        jobService.cancel(job.getId());
+        release.countDown();
+
+        verify(jobRepository, timeout(5000)).finish(eq(job.getId()), eq(JobStatus.CANCELLED), any(), isNull(), isNull(), any());
+        verify(taskTitlePrefixIndex, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("An export cancelled through another instance stops at its next batch and leaves no file")
+    void exportTasks_CancelledElsewhere_StopsAtNextBatch() throws Exception {
+        AtomicLong writtenBeforeStop = new AtomicLong(-1);
+        when(taskExportService.export(any(), eq(TaskExportService.Format.CSV), any(OutputStream.class), any(LongConsumer.class)))
+                .thenAnswer(invocation -> {
+                    LongConsumer progress = invocation.getArgument(3);
+                    progress.accept(1000);
+                    // Only the jobs row knows about this cancel, as when another instance handled the request
+                    cancelRequested.add(1L); // the only job this test submits
+                    progress.accept(2000);
+                    writtenBeforeStop.set(3000);
+                    return 3000L;
+                });
+
+        JobDto job = jobService.exportTasks(1L, TaskQuery.ownedBy(1L), TaskExportService.Format.CSV);
+
+        verify(jobRepository, timeout(5000)).finish(eq(job.getId()), eq(JobStatus.CANCELLED), eq("Cancelled at progress 1000"),
+                isNull(), isNull(), any());
+        assertEquals(-1, writtenBeforeStop.get());
+        assertFalse(Files.exists(Path.of(System.getProperty("java.io.tmpdir"), "job-" + job.getId() + ".csv")));
+    }
+
+    @Test
+    @DisplayName("Submissions beyond the worker and queue capacity are refused")
+    void submit_QueueFull_ThrowsBusy() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(taskSearchIndex).rebuild();
+
+        // One worker and one queue slot: the first job goes straight to the worker, the second waits
+        jobService.rebuildIndexes(1L);
+        jobService.rebuildIndexes(1L);
+
+        JobQueueFullException ex = assertThrows(JobQueueFullException.class, () -> jobService.rebuildIndexes(1L));
+        assertEquals(30, ex.getRetryAfterSeconds());
+        verify(jobRepository).finish(eq(3L), eq(JobStatus.FAILED), isNull(), any(), isNull(), any());
+
+        release.countDown();
+    }
+}
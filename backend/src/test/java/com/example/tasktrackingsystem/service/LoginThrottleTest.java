@@ -0,0 +1,50 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.exceptions.TooManyLoginAttemptsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginThrottleTest {
+
+    @Test
+    @DisplayName("Username bucket rejects once its burst is spent")
+    void acquire_UsernameBurstExceeded_Throws() {
+        LoginThrottle throttle = new LoginThrottle(true, 1024, 3, 1, 100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("username", "10.0.0." + i);
+        }
+
+        TooManyLoginAttemptsException ex = assertThrows(TooManyLoginAttemptsException.class,
+                () -> throttle.acquire("USERNAME ", "10.0.0.9"));
+        assertEquals(60, ex.getRetryAfterSeconds());
+        assertEquals(1, throttle.rejectedByUsername());
+        assertEquals(0, throttle.rejectedByAddress());
+    }
+
+    @Test
+    @DisplayName("Address bucket rejects a spray across many usernames")
+    void acquire_AddressBurstExceeded_Throws() {
+        LoginThrottle throttle = new LoginThrottle(true, 1024, 100, 100, 2, 1);
+
+        throttle.acquire("username1", "10.0.0.1");
+        throttle.acquire("username2", "10.0.0.1");
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> throttle.acquire("username3", "10.0.0.1"));
+        assertEquals(1, throttle.rejectedByAddress());
+    }
+
+    @Test
+    @DisplayName("Disabled throttle lets everything through")
+    void acquire_Disabled_NeverThrows() {
+        LoginThrottle throttle = new LoginThrottle(false, 1024, 1, 1, 1, 1);
+
+        assertDoesNotThrow(() -> {
+            for (int i = 0; i < 10; i++) {
+                throttle.acquire("username", "10.0.0.1");
+            }
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.config.CacheConfig;
+import com.example.tasktrackingsystem.dto.ChangePasswordDto;
+import com.example.tasktrackingsystem.dto.CreateTaskDto;
+import com.example.tasktrackingsystem.dto.PatchPersonProfileDto;
+import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the person cache against the real repositories: repeated reads are served without a select, every write
+ * path evicts the entry, and creating a task reads no persons row once the owner is cached.
+ */
+@DataJpaTest
+@ImportAutoConfiguration(FlywayAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, PersonService.class, TaskService.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:personcache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class PersonCacheTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private TaskSearchIndex taskSearchIndex;
+
+    @MockitoBean
+    private TaskTitlePrefixIndex taskTitlePrefixIndex;
+
+    @MockitoBean
+    private ChangeSequence changeSequence;
+
+    private Statistics statistics;
+    private Cache persons;
+    private Long personId;
+
+    @BeforeEach
+    void setUp() {
+        persons = cacheManager.getCache(CacheConfig.PERSONS);
+        persons.clear();
+
+        Person person = new Person(null, "Cached Person", Role.USER, "cached_person", "password123", null);
+        entityManager.persist(person);
+        entityManager.flush();
+        entityManager.clear();
+        personId = person.getPersonId();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Repeated reads are served from the cache without a second select")
+    void findById_Repeated_OneSelect() {
+        PersonDto first = personService.findById(personId);
+        PersonDto second = personService.findById(personId);
+
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals("cached_person", second.getUsername());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    @DisplayName("A caller changing its dto does not change the cached person")
+    void findById_CallerMutates_CacheUnchanged() {
+        personService.findById(personId).setFullName("Someone Else");
+
+        assertEquals("Cached Person", personService.findById(personId).getFullName());
+    }
+
+    @Test
+    @DisplayName("Patching the profile evicts the cached person")
+    void patchProfile_EvictsEntry() {
+        personService.findById(personId);
+
+        personService.patchProfile(personId, new PatchPersonProfileDto("Renamed Person", null));
+
+        assertNull(persons.get(personId));
+        assertEquals("Renamed Person", personService.findById(personId).getFullName());
+    }
+
+    @Test
+    @DisplayName("Changing the password evicts the cached person")
+    void changePassword_EvictsEntry() {
+        when(passwordEncoder.matches("password123", "password123")).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        personService.findById(personId);
+
+        personService.changePassword(personId, new ChangePasswordDto("password123", "new-password"));
+
+        assertNull(persons.get(personId));
+    }
+
+    @Test
+    @DisplayName("Deleting the person evicts the cached person")
+    void delete_EvictsEntry() {
+        personService.findById(personId);
+
+        personService.delete(personId);
+
+        assertNull(persons.get(personId));
+    }
+
+    @Test
+    @DisplayName("Creating a task for a cached owner links a reference and reads no persons row")
+    void createTask_CachedOwner_NoPersonSelect() {
+        personService.findById(personId);
+        statistics.clear();
+
+        TaskDto created = taskService.createTask(new CreateTaskDto("Cached owner task", null, null, null), personId);
+        entityManager.flush();
+
+        assertEquals("cached_person", created.getUsername());
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+}
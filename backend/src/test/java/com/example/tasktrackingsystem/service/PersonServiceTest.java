@@ -1,11 +1,17 @@
 package com.example.tasktrackingsystem.service;
 
 import com.example.tasktrackingsystem.dto.CreatePersonDto;
+import com.example.tasktrackingsystem.dto.CursorPage;
 import com.example.tasktrackingsystem.dto.PatchPersonProfileDto;
 import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.dto.PersonWorkloadDto;
 import com.example.tasktrackingsystem.model.Person;
 import com.example.tasktrackingsystem.model.Role;
+import com.example.tasktrackingsystem.model.Status;
 import com.example.tasktrackingsystem.repository.PersonRepository;
+import com.example.tasktrackingsystem.repository.PersonRow;
+import com.example.tasktrackingsystem.repository.PersonVersionRow;
+import com.example.tasktrackingsystem.repository.PersonWorkloadRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,16 +19,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +52,7 @@ public class PersonServiceTest {
 
     @BeforeEach
     void setUp() {
-        mockPerson = new Person(1L, "Tester Name", Role.USER, "username", "password");
+        mockPerson = new Person(1L, "Tester Name", Role.USER, "username", "password", 0L);
         mockPersonDto = new PersonDto(1L, "Tester Name", "USER", "username");
     }
 
@@ -49,25 +60,31 @@ public class PersonServiceTest {
     @Test
     @DisplayName(value = "Person TC_001: Find a person by ID")
     void TC_001(){
-        when(personRepository.findById(1L)).thenReturn(Optional.ofNullable(mockPerson));
+        when(personRepository.findRowById(1L)).thenReturn(Optional.of(row(1L, "username")));
 
         PersonDto result = personService.findById(1L);
 
         assertEquals(mockPersonDto.getPersonId(), result.getPersonId());
-        verify(personRepository, times(1)).findById(1L);
+        assertEquals(mockPersonDto.getUsername(), result.getUsername());
+        verify(personRepository, times(1)).findRowById(1L);
+        verify(personRepository, never()).findById(any());
     }
 
-    // Test for findAll
+    // Test for findDirectory
     @Test
-    @DisplayName(value = "Person TC_002: Find all person without pagination")
+    @DisplayName(value = "Person TC_002: Find a directory page by username prefix")
     void TC_002(){
-        when(personRepository.findAll()).thenReturn(List.of(mockPerson));
+        when(personRepository.findDirectoryByUsername(eq("user!_%"), eq(""), any(Limit.class)))
+                .thenReturn(List.of(row(1L, "user_alpha"), row(2L, "user_bravo")));
 
-        List<PersonDto> result = personService.findAll();
+        CursorPage<PersonDto> page = personService.findDirectory(PersonService.DirectoryOrder.USERNAME, " user_ ", null, 1);
 
-        assertEquals(1, result.size());
-        assertEquals(mockPersonDto.getPersonId(), result.getFirst().getPersonId());
-        verify(personRepository, times(1)).findAll();
+        assertEquals(1, page.getContent().size());
+        assertEquals("user_alpha", page.getContent().getFirst().getUsername());
+        assertTrue(page.isHasNext());
+        assertEquals(new CursorCodec.Key("user_alpha", 1L), CursorCodec.decodeKey(page.getNextCursor()));
+        verify(personRepository, times(1)).findDirectoryByUsername(eq("user!_%"), eq(""), argThat(limit -> limit.max() == 2));
+        verify(personRepository, never()).findAll();
     }
 
     // Test for findAllPaginated
@@ -127,7 +144,7 @@ public class PersonServiceTest {
     @Test
     @DisplayName(value = "Person TC_006: Test Patch")
     void TC_006(){
-        Person updatedPerson = new Person(1L, "Tester Name", Role.USER, "username", "password");
+        Person updatedPerson = new Person(1L, "Tester Name", Role.USER, "username", "password", 0L);
 
         // Person Service Patch Profile Paramters
         Long patchPersonProfileId = mockPerson.getPersonId();
@@ -149,4 +166,133 @@ public class PersonServiceTest {
         verify(personRepository, times(1)).existsByUsernameAndPersonIdNot(anyString(), anyLong());
         verify(personRepository, times(1)).save(any(Person.class));
     }
+
+    // Test for streamDirectory
+    @Test
+    @DisplayName(value = "Person TC_007: Stream the directory as NDJSON in keyset batches")
+    void TC_007() throws Exception {
+        ReflectionTestUtils.setField(personService, "directoryBatchSize", 2);
+        when(personRepository.findDirectoryByFullName(eq("%"), eq(""), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(row(1L, "user_alpha"), row(2L, "user_bravo")));
+        when(personRepository.findDirectoryByFullName(eq("%"), eq("Full user_bravo"), eq(2L), any(Limit.class)))
+                .thenReturn(List.of(row(3L, "user_charlie")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = personService.streamDirectory(PersonService.DirectoryOrder.FULL_NAME, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, written);
+        assertEquals(3, lines.length);
+        assertTrue(lines[2].contains("\"username\":\"user_charlie\""), lines[2]);
+        verify(personRepository, times(2)).findDirectoryByFullName(anyString(), anyString(), anyLong(), any(Limit.class));
+    }
+
+    // Test for findWorkload
+    @Test
+    @DisplayName(value = "Person TC_008: Find a workload page and continue from its cursor")
+    void TC_008(){
+        PersonWorkloadRow busiest = workload(1L, 5, 3);
+        when(personRepository.findWorkloadByOpen(eq(Long.MAX_VALUE), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(busiest, workload(2L, 4, 1)));
+
+        CursorPage<PersonWorkloadDto> page = personService.findWorkload(PersonService.WorkloadOrder.OPEN, null, 1);
+
+        assertEquals(1L, page.getContent().getFirst().getPerson().getPersonId());
+        assertEquals(3L, page.getContent().getFirst().getByStatus().get(Status.TO_DO));
+        assertTrue(page.isHasNext());
+
+        personService.findWorkload(PersonService.WorkloadOrder.OPEN, page.getNextCursor(), 1);
+        verify(personRepository, times(1)).findWorkloadByOpen(eq(3L), eq(1L), any(Limit.class));
+    }
+
+    // Test for findCurrent
+    @Test
+    @DisplayName(value = "Person TC_009: Find the current row and its version in one uncached read")
+    void TC_009(){
+        PersonVersionRow current = mock(PersonVersionRow.class);
+        when(current.getPersonId()).thenReturn(1L);
+        when(current.getUsername()).thenReturn("username");
+        when(current.getRole()).thenReturn(Role.USER);
+        when(current.getVersion()).thenReturn(4L);
+        when(personRepository.findVersionedById(1L)).thenReturn(Optional.of(current));
+
+        PersonVersionRow result = personService.findCurrent(1L);
+
+        assertEquals(4L, result.getVersion());
+        assertEquals("username", PersonService.convertRowToDto(result).getUsername());
+        verify(personRepository, never()).findById(any());
+    }
+
+    private static PersonWorkloadRow workload(Long id, long total, long open) {
+        return new PersonWorkloadRow() {
+            @Override
+            public Long getPersonId() {
+                return id;
+            }
+
+            @Override
+            public String getFullName() {
+                return "Workload " + id;
+            }
+
+            @Override
+            public Role getRole() {
+                return Role.USER;
+            }
+
+            @Override
+            public String getUsername() {
+                return "workload_" + id;
+            }
+
+            @Override
+            public long getToDo() {
+                return open;
+            }
+
+            @Override
+            public long getInProgress() {
+                return 0;
+            }
+
+            @Override
+            public long getCompleted() {
+                return total - open;
+            }
+
+            @Override
+            public long getOpen() {
+                return open;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private static PersonRow row(Long id, String username) {
+        return new PersonRow() {
+            @Override
+            public Long getPersonId() {
+                return id;
+            }
+
+            @Override
+            public String getFullName() {
+                return "Full " + username;
+            }
+
+            @Override
+            public Role getRole() {
+                return Role.USER;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+        };
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskEventBroadcasterTest {
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private TaskEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (broadcaster != null) {
+            broadcaster.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Owners only see their own tasks; admin filters match changes into or out of a status")
+    void onTaskChanged_RoutesToMatchingSubscribers() throws Exception {
+        release.countDown();
+        broadcaster = broadcaster(16);
+        broadcaster.subscribeOwner(1L);
+        broadcaster.subscribeOwner(2L);
+        broadcaster.subscribeAll(Set.of(Status.COMPLETED));
+        RecordingEmitter owner1 = emitters.get(0);
+        RecordingEmitter owner2 = emitters.get(1);
+        RecordingEmitter completed = emitters.get(2);
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.next().contains("connected"));
+        }
+
+        broadcaster.onTaskChanged(TaskChangedEvent.updated(task(Status.TO_DO, 0L), task(Status.IN_PROGRESS, 1L)));
+        broadcaster.onTaskChanged(TaskChangedEvent.updated(task(Status.IN_PROGRESS, 1L), task(Status.COMPLETED, 2L)));
+
+        String first = owner1.next();
+        assertTrue(first.contains("event:updated"), first);
+        assertTrue(first.contains("\"trackingStatus\":\"IN_PROGRESS\""), first);
+        assertTrue(owner1.next().contains("\"trackingStatus\":\"COMPLETED\""));
+        assertTrue(completed.next().contains("\"trackingStatus\":\"COMPLETED\""));
+        assertNull(completed.sent.poll(100, TimeUnit.MILLISECONDS));
+        assertNull(owner2.sent.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("A subscriber that stops reading is evicted once its buffer is full, without blocking the publisher")
+    void onTaskChanged_SlowConsumer_Evicted() {
+        broadcaster = broadcaster(2);
+        broadcaster.subscribeOwner(1L);
+        assertEquals(1, broadcaster.subscriberCount());
+
+        // The drain thread is stuck writing, so the queue fills up
+        for (long version = 0; version < 4; version++) {
+            broadcaster.onTaskChanged(TaskChangedEvent.updated(task(Status.TO_DO, version), task(Status.TO_DO, version + 1)));
+        }
+
+        assertEquals(1, broadcaster.evictedCount());
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private TaskEventBroadcaster broadcaster(int bufferSize) {
+        return new TaskEventBroadcaster(bufferSize, Duration.ofMinutes(1), Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMillis, release);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static TaskDto task(Status status, long version) {
+        return new TaskDto(1L, "Task", null, status, 1L, "user", version);
+    }
+
+    // Records each message as SSE text; every write waits until the test releases it
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+
+        RecordingEmitter(long timeoutMillis, CountDownLatch release) {
+            super(timeoutMillis);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            sent.add(text.toString());
+        }
+
+        String next() throws InterruptedException {
+            String message = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(message, "nothing was sent");
+            return message;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.exceptions.ExportBusyException;
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.TaskQuery;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TaskExportServiceTest {
+
+    private TaskRepository taskRepository;
+    private PlatformTransactionManager transactionManager;
+    private TaskExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        exportService = new TaskExportService(taskRepository, transactionManager, 1, 1, 5);
+
+        TaskQuery query = TaskQuery.ownedBy(1L);
+        when(taskRepository.findByQueryAfter(query, 0L, 1))
+                .thenReturn(List.of(new TaskDto(1L, "Plain", null, Status.TO_DO, 1L, "user", 0L)));
+        when(taskRepository.findByQueryAfter(query, 1L, 1))
+                .thenReturn(List.of(new TaskDto(2L, "Say \"hi\", then leave", "Line one\nLine two", Status.COMPLETED, 1L, "user", 0L)));
+        when(taskRepository.findByQueryAfter(query, 2L, 1)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("NDJSON writes one object per line, reading each batch in its own transaction")
+    void export_Ndjson_OneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.export(TaskQuery.ownedBy(1L), TaskExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"), lines[0]);
+        assertTrue(lines[1].contains("\"description\":\"Line one\\nLine two\""), lines[1]);
+        // Two full batches and the empty one that ends the export
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("CSV quotes cells with separators, quotes or line breaks")
+    void export_Csv_QuotesSpecialCells() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(TaskQuery.ownedBy(1L), TaskExportService.Format.CSV, out);
+
+        assertEquals("id,title,description,trackingStatus,userId,username\r\n"
+                        + "1,Plain,,TO_DO,1,user\r\n"
+                        + "2,\"Say \"\"hi\"\", then leave\",\"Line one\nLine two\",COMPLETED,1,user\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Progress is reported between batches, and an exception from it stops the next read")
+    void export_ProgressThrows_StopsBeforeNextBatch() {
+        List<Long> reported = new ArrayList<>();
+
+        assertThrows(CancellationException.class, () -> exportService.export(TaskQuery.ownedBy(1L),
+                TaskExportService.Format.NDJSON, new ByteArrayOutputStream(), done -> {
+                    reported.add(done);
+                    throw new CancellationException();
+                }));
+
+        assertEquals(List.of(1L), reported);
+        verify(taskRepository, never()).findByQueryAfter(TaskQuery.ownedBy(1L), 1L, 1);
+    }
+
+    @Test
+    @DisplayName("Streamed exports beyond the limit are turned away until a slot is closed")
+    void reserveStream_LimitReached_Throws() {
+        TaskExportService.Slot slot = exportService.reserveStream();
+
+        ExportBusyException ex = assertThrows(ExportBusyException.class, exportService::reserveStream);
+        assertEquals(5, ex.getRetryAfterSeconds());
+
+        slot.close();
+        slot.close();
+        TaskExportService.Slot next = exportService.reserveStream();
+        assertThrows(ExportBusyException.class, exportService::reserveStream);
+        next.close();
+    }
+
+    @Test
+    @DisplayName("Unknown formats are rejected")
+    void format_Unknown_Throws() {
+        assertEquals(TaskExportService.Format.CSV, TaskExportService.Format.of("CSV"));
+        assertThrows(InvalidInputException.class, () -> TaskExportService.Format.of("xml"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.PersonDto;
+import com.example.tasktrackingsystem.dto.TaskImportResultDto;
+import com.example.tasktrackingsystem.dto.TaskImportRowDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class TaskImportServiceTest {
+
+    private TaskRepository taskRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private TaskImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        PersonService personService = mock(PersonService.class);
+        PersonDto owner = new PersonDto(1L, "Test User", "USER", "testuser");
+        when(personService.findById(1L)).thenReturn(owner);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+
+        // Hand out ids the way the table generator would
+        AtomicLong ids = new AtomicLong();
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+
+        importService = new TaskImportService(taskRepository, personService,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, eventPublisher, mock(ChangeSequence.class), 2, 100);
+        EntityManager entityManager = mock(EntityManager.class);
+        Person reference = new Person();
+        reference.setPersonId(1L);
+        when(entityManager.getReference(Person.class, 1L)).thenReturn(reference);
+        ReflectionTestUtils.setField(importService, "entityManager", entityManager);
+    }
+
+    @Test
+    @DisplayName("NDJSON rows are validated and written in chunks")
+    void importTasks_Ndjson_ChunksAndRejects() throws Exception {
+        String body = """
+                {"title":"First","trackingStatus":"IN_PROGRESS"}
+                {"title":""}
+                {"title":"Second","description":"More"}
+                {"title":"Third","trackingStatus":"NOT_A_STATUS"}
+                {"title":"Fourth"}
+                """;
+
+        TaskImportResultDto result = importService.importTasks(stream(body), 1L);
+
+        assertEquals(5, result.getReceived());
+        assertEquals(3, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertNull(result.getError());
+        assertEquals(List.of(TaskImportRowDto.CREATED, TaskImportRowDto.REJECTED, TaskImportRowDto.CREATED,
+                TaskImportRowDto.REJECTED, TaskImportRowDto.CREATED),
+                result.getRows().stream().map(TaskImportRowDto::getStatus).toList());
+
+        // Chunk size 2: one full chunk and one remainder
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("JSON arrays are read element by element and default the status")
+    void importTasks_Array_DefaultsStatus() throws Exception {
+        TaskImportResultDto result = importService.importTasks(stream("[{\"title\":\"Only\"}]"), 1L);
+
+        assertEquals(1, result.getCreated());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(saved.capture());
+        assertEquals(Status.TO_DO, saved.getValue().get(0).getTrackingStatus());
+        assertEquals(1L, saved.getValue().get(0).getPerson().getPersonId());
+    }
+
+    @Test
+    @DisplayName("Malformed JSON keeps the rows read before it")
+    void importTasks_MalformedJson_StopsAndKeepsEarlierRows() throws Exception {
+        TaskImportResultDto result = importService.importTasks(stream("{\"title\":\"Kept\"}\n{\"title\": oops"), 1L);
+
+        assertEquals(1, result.getCreated());
+        assertNotNull(result.getError());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.model.Person;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.Task;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TaskSearchIndexTest {
+
+    private TaskRepository taskRepository;
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        index = new TaskSearchIndex(taskRepository, 2);
+        index.index(1L, 10L, Status.TO_DO, "Write report", "Quarterly numbers for finance");
+        index.index(2L, 10L, Status.COMPLETED, "Finance meeting", "Prepare the report slides");
+        index.index(3L, 20L, Status.TO_DO, "Fix login bug", "Users cannot sign in");
+    }
+
+    @Test
+    @DisplayName("Title matches outrank description matches")
+    void search_TitleMatch_RanksFirst() {
+        List<TaskSearchIndex.Hit> hits = index.search("report", null, null, 0, 10);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(TaskSearchIndex.Hit::taskId).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Owner and status filters narrow the result")
+    void search_Filters_Applied() {
+        assertEquals(List.of(2L), ids(index.search("report finance", 10L, Status.COMPLETED, 0, 10)));
+        assertTrue(index.search("login", 10L, null, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Updates and removals are reflected immediately")
+    void indexAndRemove_UpdatePostings() {
+        index.index(3L, 20L, Status.TO_DO, "Fix signup bug", null);
+        assertTrue(index.search("login", null, null, 0, 10).isEmpty());
+
+        index.remove(1L);
+        assertEquals(List.of(2L), ids(index.search("report", null, null, 0, 10)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Concurrent adds and removals sharing a term never lose a posting")
+    void indexAndRemove_Concurrent_SharedTerm() throws Exception {
+        int rounds = 2_000;
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            // One thread keeps emptying the "shared" postings by adding and removing task 100, the other adds tasks
+            Future<?> churn = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < rounds; i++) {
+                    index.index(100L, 10L, Status.TO_DO, "Shared", null);
+                    index.remove(100L);
+                }
+                return null;
+            });
+            Future<?> adds = pool.submit(() -> {
+                start.await();
+                for (long id = 1_000; id < 1_000 + rounds; id++) {
+                    index.index(id, 10L, Status.TO_DO, "Shared", null);
+                }
+                return null;
+            });
+            start.countDown();
+            churn.get(30, TimeUnit.SECONDS);
+            adds.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(rounds, index.search("shared", null, null, 0, rounds + 1).size());
+    }
+
+    @Test
+    @DisplayName("Offset and limit page through the ranking")
+    void search_Paging() {
+        assertEquals(List.of(2L), ids(index.search("report", null, null, 1, 1)));
+        assertTrue(index.search("report", null, null, 2, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Queries without letters or digits are rejected")
+    void search_NoTerms_Throws() {
+        assertThrows(InvalidInputException.class, () -> index.search(" -- ", null, null, 0, 10));
+    }
+
+    @Test
+    @DisplayName("Rebuild reloads every task in id batches")
+    void rebuild_LoadsAllBatches() {
+        Person person = new Person();
+        person.setPersonId(30L);
+        Task first = Task.builder().id(4L).title("Alpha").trackingStatus(Status.TO_DO).person(person).build();
+        Task second = Task.builder().id(5L).title("Beta").trackingStatus(Status.TO_DO).person(person).build();
+        Task third = Task.builder().id(6L).title("Alpha beta").trackingStatus(Status.TO_DO).person(person).build();
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(first, second));
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any(Limit.class))).thenReturn(List.of(third));
+
+        index.rebuild();
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(4L, 6L), ids(index.search("alpha", 30L, null, 0, 10)));
+        assertTrue(index.search("report", null, null, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Searches keep the previous index while a rebuild scans, and writes during the scan survive it")
+    void rebuild_ServesPreviousIndexUntilSwap() throws Exception {
+        Person person = new Person();
+        person.setPersonId(30L);
+        Task first = Task.builder().id(4L).title("Alpha").trackingStatus(Status.TO_DO).person(person).build();
+        Task second = Task.builder().id(5L).title("Beta").trackingStatus(Status.TO_DO).person(person).build();
+        Task stale = Task.builder().id(6L).title("Alpha beta").trackingStatus(Status.TO_DO).person(person).build();
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(List.of(first, second));
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(eq(5L), any(Limit.class))).thenAnswer(invocation -> {
+            scanning.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(stale);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> rebuild = executor.submit(index::rebuild);
+            assertTrue(scanning.await(5, TimeUnit.SECONDS));
+
+            // Mid-scan: the previous index answers in full, and a newer version of task 6 arrives
+            assertEquals(List.of(1L, 2L), ids(index.search("report", null, null, 0, 10)));
+            index.index(6L, 30L, Status.COMPLETED, "Gamma", null);
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(3, index.size());
+        assertTrue(index.search("report", null, null, 0, 10).isEmpty());
+        assertEquals(List.of(4L), ids(index.search("alpha", null, null, 0, 10)));
+        assertEquals(List.of(6L), ids(index.search("gamma", null, Status.COMPLETED, 0, 10)));
+    }
+
+    private static List<Long> ids(List<TaskSearchIndex.Hit> hits) {
+        return hits.stream().map(TaskSearchIndex.Hit::taskId).toList();
+    }
+}
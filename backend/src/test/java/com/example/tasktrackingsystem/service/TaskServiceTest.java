@@ -1,14 +1,23 @@
 package com.example.tasktrackingsystem.service;
 
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateDto;
+import com.example.tasktrackingsystem.dto.BulkStatusUpdateResultDto;
 import com.example.tasktrackingsystem.dto.CreateTaskDto;
+import com.example.tasktrackingsystem.dto.CursorPage;
 import com.example.tasktrackingsystem.dto.PersonDto;
 import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskSearchHitDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
 import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.exceptions.PreconditionFailedException;
 import com.example.tasktrackingsystem.exceptions.TaskNotFoundException;
 import com.example.tasktrackingsystem.model.Person;
 import com.example.tasktrackingsystem.model.Status;
 import com.example.tasktrackingsystem.model.Task;
+import com.example.tasktrackingsystem.repository.TaskQuery;
 import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.example.tasktrackingsystem.repository.TaskStatusRow;
+import com.example.tasktrackingsystem.repository.TaskTombstoneRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,13 +26,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,11 +54,27 @@ public class TaskServiceTest {
     @Mock
     private PersonService personService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskTitlePrefixIndex taskTitlePrefixIndex;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @InjectMocks
     private TaskService taskService;
 
     private PersonDto mockPersonDto;
     private Task mockTask;
+    private TaskDto mockTaskDto;
     private CreateTaskDto createTaskDto;
 
     @BeforeEach
@@ -66,6 +98,8 @@ public class TaskServiceTest {
                 .trackingStatus(Status.TO_DO)
                 .person(person)
                 .build();
+
+        mockTaskDto = new TaskDto(1L, "Test Task", "Test Description", Status.TO_DO, 1L, "user", 0L);
     }
 
     @Test
@@ -125,6 +159,8 @@ public class TaskServiceTest {
 
         // Assert
         verify(taskRepository, times(1)).delete(mockTask);
+        verify(taskTombstoneRepository).insert(1L, 1L, 0L);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -143,23 +179,26 @@ public class TaskServiceTest {
     @DisplayName("Update task details - Success (Same User)")
     void updateTask_ValidData_ReturnsUpdatedDto() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(mockTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(mockTask);
+        when(taskRepository.findDtosByIdIn(List.of(1L))).thenReturn(List.of(mockTaskDto));
+        when(changeSequence.next()).thenReturn(7L);
+        when(taskRepository.updateIfVersion(1L, 0L, "Test Task", "Test Description", Status.IN_PROGRESS, 7L)).thenReturn(1);
 
         // Act
         TaskDto result = taskService.updateTask(1L, createTaskDto, 1L);
 
         // Assert
         assertNotNull(result);
-        assertEquals(Status.IN_PROGRESS, mockTask.getTrackingStatus());
-        verify(taskRepository).save(mockTask);
+        assertEquals(Status.IN_PROGRESS, result.getTrackingStatus());
+        assertEquals(1L, result.getVersion());
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
     @DisplayName("Update task details - Fails (Wrong User)")
     void updateTask_WrongUser_ThrowsInvalidInputException() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(mockTask));
+        when(taskRepository.findDtosByIdIn(List.of(1L))).thenReturn(List.of(mockTaskDto));
 
         // Act & Assert
         assertThrows(InvalidInputException.class, () -> {
@@ -167,13 +206,39 @@ public class TaskServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("Update task details - Fails (Stale version in the request)")
+    void updateTask_StaleVersion_ThrowsPreconditionFailed() {
+        // Arrange
+        createTaskDto.setVersion(3L);
+        when(taskRepository.findDtosByIdIn(List.of(1L))).thenReturn(List.of(mockTaskDto));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, createTaskDto, 1L));
+        verify(taskRepository, never()).updateIfVersion(any(), any(), any(), any(), any(), anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Update task details - Fails (Changed between read and update)")
+    void updateTask_ConcurrentChange_ThrowsPreconditionFailed() {
+        // Arrange
+        when(taskRepository.findDtosByIdIn(List.of(1L))).thenReturn(List.of(mockTaskDto));
+        when(changeSequence.next()).thenReturn(7L);
+        when(taskRepository.updateIfVersion(1L, 0L, "Test Task", "Test Description", Status.IN_PROGRESS, 7L)).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTask(1L, createTaskDto, 1L));
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("Retrieve all tasks with pagination")
     void getAllTasks_ReturnsPageOfDtos() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> page = new PageImpl<>(List.of(mockTask));
-        when(taskRepository.findAll(pageable)).thenReturn(page);
+        Page<TaskDto> page = new PageImpl<>(List.of(mockTaskDto));
+        when(taskRepository.findPageByQuery(TaskQuery.ALL, pageable)).thenReturn(page);
 
         // Act
         Page<TaskDto> result = taskService.getAllTasks(pageable);
@@ -181,7 +246,7 @@ public class TaskServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(taskRepository).findAll(pageable);
+        verify(taskRepository).findPageByQuery(TaskQuery.ALL, pageable);
     }
 
     @Test
@@ -189,8 +254,8 @@ public class TaskServiceTest {
     void getTasksByUserIdAndStatus_ReturnsFilteredPage() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> page = new PageImpl<>(List.of(mockTask));
-        when(taskRepository.findByPersonPersonIdAndTrackingStatus(1L, Status.TO_DO, pageable)).thenReturn(page);
+        Page<TaskDto> page = new PageImpl<>(List.of(mockTaskDto));
+        when(taskRepository.findPageByQuery(new TaskQuery(1L, Set.of(Status.TO_DO), null), pageable)).thenReturn(page);
 
         // Act
         Page<TaskDto> result = taskService.getTasksByUserIdAndStatus(1L, Status.TO_DO, pageable);
@@ -199,4 +264,124 @@ public class TaskServiceTest {
         assertNotNull(result);
         assertEquals(Status.TO_DO, result.getContent().get(0).getTrackingStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Retrieve my tasks by cursor returns a continuation when more rows exist")
+    void getTasksByUserIdAfter_MoreRows_ReturnsNextCursor() {
+        // Arrange
+        TaskDto second = new TaskDto(2L, "Second", null, Status.TO_DO, 1L, "user", 0L);
+        when(taskRepository.findByQueryAfter(TaskQuery.ownedBy(1L), 0L, 2)).thenReturn(List.of(mockTaskDto, second));
+
+        // Act
+        CursorPage<TaskDto> result = taskService.getTasksByUserIdAfter(1L, null, 1);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(1L, CursorCodec.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Search keeps the index ranking and skips rows deleted since indexing")
+    void searchTasks_ReturnsHitsInIndexOrder() {
+        // Arrange
+        TaskDto second = new TaskDto(2L, "Second", null, Status.TO_DO, 1L, "user", 0L);
+        when(taskSearchIndex.search("test", 1L, null, 0, 5)).thenReturn(List.of(
+                new TaskSearchIndex.Hit(2L, 3.0),
+                new TaskSearchIndex.Hit(9L, 2.0),
+                new TaskSearchIndex.Hit(1L, 1.0)));
+        when(taskRepository.findDtosByIdIn(List.of(2L, 9L, 1L))).thenReturn(List.of(mockTaskDto, second));
+
+        // Act
+        List<TaskSearchHitDto> result = taskService.searchTasks("test", 1L, null, 0, 5);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getTask().getId());
+        assertEquals(1L, result.get(1).getTask().getId());
+    }
+
+    @Test
+    @DisplayName("Query maps the public sort key onto the entity property")
+    void queryTasks_ValidSort_DelegatesToRepository() {
+        // Arrange
+        TaskQuery query = new TaskQuery(1L, Set.of(Status.TO_DO, Status.COMPLETED), "test");
+        Pageable expected = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "trackingStatus"));
+        when(taskRepository.findSliceByQuery(query, expected)).thenReturn(new SliceImpl<>(List.of(mockTaskDto), expected, false));
+
+        // Act
+        Slice<TaskDto> result = taskService.queryTasks(query, "status", "desc", 0, 5, false);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("Query rejects sort keys outside the whitelist")
+    void queryTasks_UnknownSort_ThrowsInvalidInputException() {
+        TaskQuery query = new TaskQuery(1L, null, null);
+
+        assertThrows(InvalidInputException.class, () -> taskService.queryTasks(query, "description", "asc", 0, 5, true));
+        assertThrows(InvalidInputException.class, () -> taskService.queryTasks(query, "id", "sideways", 0, 5, true));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Query rejects several statuses unless sorted by status")
+    void queryTasks_SeveralStatusesNotSortedByStatus_ThrowsInvalidInputException() {
+        TaskQuery query = new TaskQuery(1L, Set.of(Status.TO_DO, Status.COMPLETED), null);
+
+        assertThrows(InvalidInputException.class, () -> taskService.queryTasks(query, "id", "asc", 0, 5, true));
+        assertThrows(InvalidInputException.class, () -> taskService.queryTasks(query, "title", "desc", 0, 5, false));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Bulk transition updates only locked rows and reports the rest as skipped")
+    void transitionMyTasks_ByIds_ReportsAffectedAndSkipped() {
+        // Arrange
+        TaskStatusRow row = mock(TaskStatusRow.class);
+        when(row.getId()).thenReturn(1L);
+        when(row.getStatus()).thenReturn(Status.TO_DO);
+        when(taskRepository.lockForTransitionByIds(Set.of(1L, 2L), 1L, Status.COMPLETED)).thenReturn(List.of(row));
+        TaskDto after = new TaskDto(1L, "Test Task", "Test Description", Status.COMPLETED, 1L, "user", 0L);
+        when(taskRepository.findDtosByIdIn(List.of(1L))).thenReturn(List.of(after));
+
+        // Act
+        BulkStatusUpdateResultDto result = taskService.transitionMyTasks(1L,
+                new BulkStatusUpdateDto(List.of(1L, 2L), null, Status.COMPLETED));
+
+        // Assert
+        assertEquals(List.of(1L), result.getAffected());
+        assertEquals(List.of(2L), result.getSkipped());
+        verify(taskRepository).updateStatus(List.of(1L), 1L, Status.COMPLETED, 0L);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Bulk transition by status refuses selections larger than one request may lock")
+    void transitionTasks_ByStatusOverCap_ThrowsInvalidInputException() {
+        // Arrange
+        List<TaskStatusRow> rows = Collections.nCopies(1001, mock(TaskStatusRow.class));
+        when(taskRepository.lockForTransitionByStatus(Status.TO_DO, null, Limit.of(1001))).thenReturn(rows);
+
+        // Act & Assert
+        assertThrows(InvalidInputException.class, () -> taskService.transitionTasks(null,
+                new BulkStatusUpdateDto(null, Status.TO_DO, Status.COMPLETED)));
+        verify(taskRepository, never()).updateStatus(any(), any(), any(), anyLong());
+        verify(taskRepository, never()).findDtosByIdIn(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Bulk transition needs exactly one selection")
+    void transitionMyTasks_AmbiguousSelection_ThrowsInvalidInputException() {
+        BulkStatusUpdateDto both = new BulkStatusUpdateDto(List.of(1L), Status.TO_DO, Status.COMPLETED);
+        BulkStatusUpdateDto neither = new BulkStatusUpdateDto(null, null, Status.COMPLETED);
+
+        assertThrows(InvalidInputException.class, () -> taskService.transitionMyTasks(1L, both));
+        assertThrows(InvalidInputException.class, () -> taskService.transitionMyTasks(1L, neither));
+        verifyNoInteractions(taskRepository);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskTotalsDto;
+import com.example.tasktrackingsystem.events.TaskChangedEvent;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.repository.PersonStatusCount;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaskStatusCountersTest {
+
+    private TaskRepository taskRepository;
+    private TaskStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        counters = new TaskStatusCounters(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Seeding loads the grouped counts for every owner and overall")
+    void reconcile_Seeds() {
+        when(taskRepository.countByPersonAndStatus()).thenReturn(List.of(
+                row(1L, Status.TO_DO, 3), row(1L, Status.COMPLETED, 1), row(2L, Status.TO_DO, 2)));
+
+        assertEquals(12, counters.reconcile());
+
+        assertEquals(3L, counters.totals(1L).getByStatus().get(Status.TO_DO));
+        assertEquals(4, counters.totals(1L).getTotal());
+        assertEquals(5L, counters.totals().getByStatus().get(Status.TO_DO));
+        assertEquals(0L, counters.totals().getByStatus().get(Status.IN_PROGRESS));
+        assertEquals(0, counters.totals(99L).getTotal());
+    }
+
+    @Test
+    @DisplayName("Create, status change, owner change and delete move the right counters")
+    void onTaskChanged_MovesCounters() {
+        TaskDto created = task(Status.TO_DO, 1L);
+        TaskDto started = task(Status.IN_PROGRESS, 1L);
+        TaskDto reassigned = task(Status.IN_PROGRESS, 2L);
+
+        counters.onTaskChanged(TaskChangedEvent.created(created));
+        counters.onTaskChanged(TaskChangedEvent.updated(created, started));
+        counters.onTaskChanged(TaskChangedEvent.updated(started, reassigned));
+
+        assertEquals(0, counters.totals(1L).getTotal());
+        assertEquals(1L, counters.totals(2L).getByStatus().get(Status.IN_PROGRESS));
+        assertEquals(1, counters.totals().getTotal());
+
+        counters.onTaskChanged(TaskChangedEvent.deleted(reassigned));
+
+        TaskTotalsDto global = counters.totals();
+        assertEquals(0, global.getTotal());
+        assertTrue(global.getByStatus().values().stream().allMatch(count -> count == 0));
+    }
+
+    @Test
+    @DisplayName("Reconcile repairs drift and drops owners that no longer have tasks")
+    void reconcile_RepairsDrift() {
+        counters.onTaskChanged(TaskChangedEvent.created(task(Status.TO_DO, 1L)));
+        counters.onTaskChanged(TaskChangedEvent.created(task(Status.TO_DO, 2L)));
+        when(taskRepository.countByPersonAndStatus()).thenReturn(List.of(row(1L, Status.TO_DO, 4)));
+
+        assertEquals(6, counters.reconcile());
+
+        assertEquals(4, counters.totals(1L).getTotal());
+        assertEquals(0, counters.totals(2L).getTotal());
+        assertEquals(4, counters.totals().getTotal());
+        assertEquals(1, counters.ownerCount());
+        assertEquals(0, counters.reconcile());
+    }
+
+    @Test
+    @DisplayName("Concurrent changes are all counted")
+    void onTaskChanged_Concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            long owner = i % 4;
+            executor.execute(() -> counters.onTaskChanged(TaskChangedEvent.created(task(Status.TO_DO, owner))));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(8_000, counters.totals().getTotal());
+        assertEquals(2_000, counters.totals(3L).getTotal());
+    }
+
+    private static TaskDto task(Status status, Long ownerId) {
+        return new TaskDto(1L, "Task", null, status, ownerId, "user", 0L);
+    }
+
+    private static PersonStatusCount row(Long personId, Status status, long total) {
+        return new PersonStatusCount() {
+            @Override
+            public Long getPersonId() {
+                return personId;
+            }
+
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
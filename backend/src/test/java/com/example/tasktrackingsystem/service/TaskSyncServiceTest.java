@@ -0,0 +1,147 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.TaskDto;
+import com.example.tasktrackingsystem.dto.TaskSyncDto;
+import com.example.tasktrackingsystem.exceptions.InvalidInputException;
+import com.example.tasktrackingsystem.model.Status;
+import com.example.tasktrackingsystem.model.TaskTombstone;
+import com.example.tasktrackingsystem.repository.TaskChangeRow;
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import com.example.tasktrackingsystem.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class TaskSyncServiceTest {
+
+    private TaskRepository taskRepository;
+    private TaskTombstoneRepository taskTombstoneRepository;
+    private ChangeSequence changeSequence;
+    private TaskSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskTombstoneRepository = mock(TaskTombstoneRepository.class);
+        changeSequence = mock(ChangeSequence.class);
+        syncService = new TaskSyncService(taskRepository, taskTombstoneRepository, changeSequence, 3);
+        when(changeSequence.stable()).thenReturn(9L);
+    }
+
+    @Test
+    @DisplayName("Changes and deletions are merged in sequence order and the batch size is respected")
+    void sync_MergesAndPages() {
+        when(taskRepository.findChangesByOwner(eq(1L), eq(0L), eq(0L), eq(9L), any(Limit.class)))
+                .thenReturn(List.of(row(4L, 2L), row(2L, 5L), row(3L, 8L)));
+        when(taskTombstoneRepository.findChangesByOwner(eq(1L), eq(0L), eq(0L), eq(9L), any(Limit.class)))
+                .thenReturn(List.of(new TaskTombstone(1L, 1L, 5L)));
+
+        TaskSyncDto batch = syncService.sync(1L, null);
+
+        assertEquals(List.of(4L, 2L), batch.getChanged().stream().map(TaskDto::getId).toList());
+        assertEquals(List.of(1L), batch.getDeleted());
+        assertTrue(batch.isHasMore());
+        // Continues right after the last change returned: sequence 5, task 2
+        assertEquals(new CursorCodec.Watermark(5L, 2L), CursorCodec.decodeWatermark(batch.getWatermark()));
+    }
+
+    @Test
+    @DisplayName("A drained sync moves the watermark to the last change returned")
+    void sync_Drained_WatermarkAtStable() {
+        String watermark = CursorCodec.encodeWatermark(new CursorCodec.Watermark(5L, 2L));
+        when(taskRepository.findChanges(eq(5L), eq(2L), eq(9L), any(Limit.class))).thenReturn(List.of(row(3L, 8L)));
+        when(taskTombstoneRepository.findChanges(eq(5L), eq(2L), eq(9L), any(Limit.class))).thenReturn(List.of());
+
+        TaskSyncDto batch = syncService.sync(null, watermark);
+
+        assertEquals(List.of(3L), batch.getChanged().stream().map(TaskDto::getId).toList());
+        assertFalse(batch.isHasMore());
+        assertEquals(new CursorCodec.Watermark(8L, 3L), CursorCodec.decodeWatermark(batch.getWatermark()));
+    }
+
+    @Test
+    @DisplayName("A sync with no changes keeps the watermark it was given")
+    void sync_NoChanges_WatermarkUnchanged() {
+        String watermark = CursorCodec.encodeWatermark(new CursorCodec.Watermark(5L, 2L));
+        when(taskRepository.findChanges(eq(5L), eq(2L), eq(9L), any(Limit.class))).thenReturn(List.of());
+        when(taskTombstoneRepository.findChanges(eq(5L), eq(2L), eq(9L), any(Limit.class))).thenReturn(List.of());
+
+        TaskSyncDto batch = syncService.sync(null, watermark);
+
+        assertFalse(batch.isHasMore());
+        assertEquals(new CursorCodec.Watermark(5L, 2L), CursorCodec.decodeWatermark(batch.getWatermark()));
+    }
+
+    @Test
+    @DisplayName("A watermark ahead of the change sequence is rejected and does not move it")
+    void sync_WatermarkAheadOfSequence_Throws() {
+        String forged = CursorCodec.encodeWatermark(new CursorCodec.Watermark(Long.MAX_VALUE, 0L));
+
+        assertThrows(InvalidInputException.class, () -> syncService.sync(1L, forged));
+
+        verify(changeSequence).stable();
+        verifyNoMoreInteractions(changeSequence);
+        verify(taskRepository, never()).findChangesByOwner(anyLong(), anyLong(), anyLong(), anyLong(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("An unreadable watermark is rejected before any query")
+    void sync_InvalidWatermark_Throws() {
+        assertThrows(InvalidInputException.class, () -> syncService.sync(1L, "not-a-watermark"));
+
+        verify(taskRepository, never()).findChangesByOwner(anyLong(), anyLong(), anyLong(), anyLong(), any(Limit.class));
+    }
+
+    private static TaskChangeRow row(Long id, long changeSeq) {
+        return new TaskChangeRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Task " + id;
+            }
+
+            @Override
+            public String getDescription() {
+                return null;
+            }
+
+            @Override
+            public Status getTrackingStatus() {
+                return Status.TO_DO;
+            }
+
+            @Override
+            public Long getUserId() {
+                return 1L;
+            }
+
+            @Override
+            public String getUsername() {
+                return "testuser";
+            }
+
+            @Override
+            public Long getVersion() {
+                return 0L;
+            }
+
+            @Override
+            public long getChangeSeq() {
+                return changeSeq;
+            }
+        };
+    }
+}
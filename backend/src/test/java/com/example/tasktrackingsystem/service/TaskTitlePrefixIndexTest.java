@@ -0,0 +1,53 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class TaskTitlePrefixIndexTest {
+
+    private TaskTitlePrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskTitlePrefixIndex(mock(TaskRepository.class), 100);
+        index.index(1L, 10L, "Complete Capstone");
+        index.index(2L, 10L, "Compile report");
+        index.index(3L, 20L, "complete capstone");
+        index.index(4L, 20L, "Call the bank");
+    }
+
+    @Test
+    @DisplayName("Owner suggestions ignore case and stay within the owner")
+    void suggest_Owner_PrefixMatchesOnly() {
+        assertEquals(List.of("Compile report", "Complete Capstone"), index.suggest(10L, "COMP", 10));
+        assertEquals(List.of("complete capstone"), index.suggest(20L, "comp", 10));
+        assertTrue(index.suggest(30L, "comp", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Global suggestions collapse titles that differ only in case")
+    void suggest_Global_Distinct() {
+        assertEquals(List.of("Compile report", "Complete Capstone"), index.suggest("comp", 10));
+        assertEquals(List.of("Compile report"), index.suggest("comp", 1));
+        assertTrue(index.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Renames and deletes release the old title only when unused")
+    void indexAndRemove_TrackReferences() {
+        index.index(1L, 10L, "Archive files");
+        assertEquals(List.of("Compile report"), index.suggest(10L, "comp", 10));
+        assertEquals(List.of("Compile report", "Complete Capstone"), index.suggest("comp", 10));
+
+        index.remove(3L);
+        assertEquals(List.of("Compile report"), index.suggest("comp", 10));
+        assertEquals(List.of("Archive files"), index.suggest(10L, "a", 10));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tasktrackingsystem.service;
+
+import com.example.tasktrackingsystem.dto.AuthenticatedPerson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerifiedTokenCacheTest {
+
+    private static AuthenticatedPerson person(Instant expiresAt) {
+        return new AuthenticatedPerson(1L, "username", "Tester Name", "USER", expiresAt);
+    }
+
+    @Test
+    @DisplayName("Cached token is served until it expires")
+    void get_AfterPut_ReturnsHit() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 16);
+        cache.put("token-a", person(Instant.now().plusSeconds(60)), List.of(new SimpleGrantedAuthority("USER")));
+
+        Optional<VerifiedTokenCache.Entry> entry = cache.get("token-a");
+
+        assertTrue(entry.isPresent());
+        assertEquals(1L, entry.get().person().personId());
+        assertEquals("USER", entry.get().authorities().getFirst().getAuthority());
+        assertEquals(1, cache.hitCount());
+        assertTrue(cache.get("token-b").isEmpty());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("Expired token is dropped and counted as an eviction")
+    void get_Expired_ReturnsMiss() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 16);
+        cache.put("token-a", person(Instant.now().minusSeconds(1)), List.of(new SimpleGrantedAuthority("USER")));
+
+        assertTrue(cache.get("token-a").isEmpty());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Tokens differing only in non-ASCII characters do not share an entry")
+    void get_NonAsciiVariant_ReturnsMiss() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 16);
+        cache.put("token-\u00e9", person(Instant.now().plusSeconds(60)), List.of(new SimpleGrantedAuthority("USER")));
+
+        // Both would encode to "token-?" in US-ASCII
+        assertTrue(cache.get("token-\u00e8").isEmpty());
+        assertTrue(cache.get("token-?").isEmpty());
+        assertTrue(cache.get("token-\u00e9").isPresent());
+    }
+
+    @Test
+    @DisplayName("Disabled cache never stores anything")
+    void get_Disabled_AlwaysMisses() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 16);
+        cache.put("token-a", person(Instant.now().plusSeconds(60)), List.of(new SimpleGrantedAuthority("USER")));
+
+        assertTrue(cache.get("token-a").isEmpty());
+        assertEquals(0, cache.hitCount());
+    }
+}
@@ -1,6 +1,6 @@
 
 import type { ChangePasswordDto, CreatePersonDto, LoginPersonDto, PersonDto } from "./types/Person";
-import type { TaskDto, CreateTaskDto } from "./types/Task";
+import type { TaskDto, CreateTaskDto, TaskSync } from "./types/Task";
 import type { Status, } from "./types/Status";
 import { http } from "./http";
 
@@ -18,10 +18,23 @@ export interface Page<T> {
     sort?: any;
 }
 
+export interface CursorPage<T> {
+    content: T[];
+    nextCursor: string | null;
+    hasNext: boolean;
+}
+
 const AUTH_BASE = "/api/auth";
 const PERSON_BASE = "/api/persons";
 const TASK_BASE = "/api/tasks";
 
+// EventSource does not go through axios, so resolve against the same backend base URL the REST calls use
+function eventStreamUrl(path: string, query?: URLSearchParams): string {
+    const base = (http.defaults.baseURL ?? "").replace(/\/+$/, "");
+    const search = query?.toString();
+    return `${base}${path}${search ? `?${search}` : ""}`;
+}
+
 export const api = {
     auth: {
         register: (body: CreatePersonDto) => http.post<PersonDto>(`${AUTH_BASE}/register`, body).then(r => r.data),
@@ -32,7 +45,8 @@ export const api = {
 
     persons: {
         findById: (id: number) => http.get<PersonDto>(`${PERSON_BASE}/${id}`).then(r => r.data),
-        findAll: () => http.get<PersonDto[]>(`${PERSON_BASE}/all`).then(r => r.data),
+        findDirectory: (params: { sort?: "username" | "fullName"; prefix?: string; cursor?: string } = {}) =>
+            http.get<CursorPage<PersonDto>>(`${PERSON_BASE}/directory`, { params }).then(r => r.data),
         findAllPaginated: (pageNumber: number) =>
             http.get<Page<PersonDto>>(`${PERSON_BASE}/paginated/${pageNumber}`).then(r => r.data),
         login: (body: LoginPersonDto) => http.post<PersonDto>(`${PERSON_BASE}/login`, body).then(r => r.data),
@@ -88,5 +102,24 @@ export const api = {
 
         delete: (taskId: number) =>
             http.delete<void>(`${TASK_BASE}/${taskId}`).then(r => r.data),
+
+        // Delta sync: omit the watermark for a full sync, then keep the returned one and repeat while hasMore
+        syncMyTasks: (watermark?: string) =>
+            http.get<TaskSync>(`${TASK_BASE}/my-tasks/sync`, { params: { watermark } }).then(r => r.data),
+
+        // ADMIN
+        sync: (params: { ownerId?: number; watermark?: string } = {}) =>
+            http.get<TaskSync>(`${TASK_BASE}/sync`, { params }).then(r => r.data),
+
+        // Server-Sent Events: "created", "updated" and "deleted" events carry a TaskEvent as JSON
+        subscribeMyTasks: () =>
+            new EventSource(eventStreamUrl(`${TASK_BASE}/my-tasks/events`), { withCredentials: true }),
+
+        // ADMIN
+        subscribeAll: (statuses: Status[] = []) => {
+            const query = new URLSearchParams();
+            statuses.forEach(s => query.append("status", s));
+            return new EventSource(eventStreamUrl(`${TASK_BASE}/events`, query), { withCredentials: true });
+        },
     },
 };
@@ -7,10 +7,25 @@ export interface TaskDto {
   trackingStatus: Status;
   userId: number;
   username: string;
+  version: number;
 }
 
 export interface CreateTaskDto {
   title: string;
   description?: string;
   trackingStatus?: Status;
-}
\ No newline at end of file
+  version?: number;
+}
+
+export interface TaskEvent {
+  type: "CREATED" | "UPDATED" | "DELETED";
+  taskId: number;
+  task: TaskDto;
+}
+
+export interface TaskSync {
+  changed: TaskDto[];
+  deleted: number[];
+  watermark: string;
+  hasMore: boolean;
+}